@@ -0,0 +1,2 @@
+./gradlew server:dist
+pause
\ No newline at end of file
@@ -0,0 +1,97 @@
+package game.library.benchmark;
+
+/**
+ * This class times workloads for the benchmarks of the library. Every workload
+ * is run through a number of warmup rounds, so the JIT compiler has compiled
+ * it, before the measured rounds are timed. The fastest and the average time
+ * of a single operation are printed for every workload.
+ * 
+ * <p>
+ * Benchmarks are run through the {@code run} task of the benchmark project,
+ * naming the benchmark class with the {@code benchmark} property:
+ * 
+ * <pre>
+ * ./gradlew benchmark:run -Pbenchmark=EventDispatchBenchmark
+ * </pre>
+ * 
+ * @author Albert Beaupre
+ */
+public final class Benchmark {
+
+	/**
+	 * A workload timed by a benchmark.
+	 */
+	@FunctionalInterface
+	public interface Workload {
+
+		/**
+		 * Runs the given amount of operations of this workload. The returned value
+		 * must depend on the work done, so the JIT compiler cannot remove it.
+		 * 
+		 * @param operations the amount of operations to run
+		 * @return a value depending on the work done
+		 */
+		long run(int operations);
+	}
+
+	private static final int WARMUP_ROUNDS = 10;
+	private static final int MEASURED_ROUNDS = 10;
+
+	private static long blackhole; // the sum of every value returned by a workload
+
+	private Benchmark() {
+		throw new UnsupportedOperationException("Benchmark is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Times the given {@code workload} and prints the nanoseconds a single
+	 * operation took.
+	 * 
+	 * @param name       the name of the workload
+	 * @param operations the amount of operations within every round
+	 * @param workload   the workload to time
+	 * @return the average nanoseconds of a single operation
+	 */
+	public static double measure(String name, int operations, Workload workload) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			blackhole += workload.run(operations);
+		}
+
+		long fastest = Long.MAX_VALUE;
+		long total = 0;
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			final long start = System.nanoTime();
+			blackhole += workload.run(operations);
+			final long time = System.nanoTime() - start;
+
+			fastest = Math.min(fastest, time);
+			total += time;
+		}
+
+		final double average = (double) total / MEASURED_ROUNDS / operations;
+		System.out.println(String.format("%-40s %10.2f ns/op (fastest %.2f ns/op)", name, average, (double) fastest / operations));
+		return average;
+	}
+
+	/**
+	 * Prints the heading of a benchmark.
+	 * 
+	 * @param title the title of the benchmark
+	 */
+	public static void heading(String title) {
+		System.out.println();
+		System.out.println(title);
+		System.out.println(String.format("%0" + title.length() + "d", 0).replace('0', '-'));
+	}
+
+	/**
+	 * Returns the sum of every value returned by a workload. This is printed at the
+	 * end of a benchmark so the work done can never be removed.
+	 * 
+	 * @return the blackhole value
+	 */
+	public static long getBlackhole() {
+		return blackhole;
+	}
+
+}
@@ -0,0 +1,146 @@
+package game.library.benchmark;
+
+import java.lang.reflect.Method;
+
+import com.badlogic.gdx.utils.Array;
+
+import game.library.event.GameEvent;
+import game.library.event.GameEventListener;
+import game.library.event.GameEventManager;
+import game.library.event.GameEventMethod;
+
+/**
+ * This benchmark compares the cost of calling an event through the
+ * {@code GameEventManager} with calling it the way event methods used to be
+ * called, walking every registered method and calling it through
+ * {@code Method.invoke}. Calling the methods directly is timed as the baseline.
+ * 
+ * <p>
+ * The public listener is called by the manager through a lambda spun by the
+ * {@code LambdaMetafactory}, while the hidden listener cannot be reached from
+ * the event package and is called through a {@code MethodHandle}.
+ * 
+ * @author Albert Beaupre
+ */
+public class EventDispatchBenchmark {
+
+	private static final int OPERATIONS = 1_000_000;
+	private static final int LISTENERS = 8;
+
+	/**
+	 * The event called by this benchmark.
+	 */
+	public static class CountEvent extends GameEvent {
+		private int value = 1;
+	}
+
+	/**
+	 * A listener which can be reached from the event package.
+	 */
+	public static class PublicListener implements GameEventListener {
+		private long total;
+
+		@GameEventMethod
+		public void onCount(CountEvent event) {
+			this.total += event.value;
+		}
+	}
+
+	/**
+	 * A listener which cannot be reached from the event package.
+	 */
+	private static class HiddenListener implements GameEventListener {
+		private long total;
+
+		@GameEventMethod
+		public void onCount(CountEvent event) {
+			this.total += event.value;
+		}
+	}
+
+	/**
+	 * The reflective dispatch event methods used to be called through, which
+	 * walks every registered method and calls it through {@code Method.invoke}.
+	 */
+	private static class ReflectiveDispatch {
+		private final Array<GameEventListener> listeners = new Array<>();
+		private final Array<Method> methods = new Array<>();
+
+		private void register(GameEventListener listener) {
+			for (Method method : listener.getClass().getMethods()) {
+				if (method.getParameterTypes().length != 1) continue;
+				if (!method.isAnnotationPresent(GameEventMethod.class)) continue;
+				method.setAccessible(true);
+				this.listeners.add(listener);
+				this.methods.add(method);
+			}
+		}
+
+		private void call(GameEvent event) {
+			for (int index = 0; index < this.methods.size; index++) {
+				if (event.isCancelled()) continue;
+				try {
+					this.methods.get(index).invoke(this.listeners.get(index), event);
+				} catch (Throwable throwable) {
+					throwable.printStackTrace();
+				}
+				if (event.isConsumed()) break;
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		final CountEvent event = new CountEvent();
+
+		final PublicListener[] direct = new PublicListener[LISTENERS];
+		final ReflectiveDispatch reflectivePublic = new ReflectiveDispatch();
+		final ReflectiveDispatch reflectiveHidden = new ReflectiveDispatch();
+		final GameEventManager managerPublic = new GameEventManager();
+		final GameEventManager managerHidden = new GameEventManager();
+		final long[] totals = new long[1];
+
+		for (int index = 0; index < LISTENERS; index++) {
+			direct[index] = new PublicListener();
+			reflectivePublic.register(new PublicListener());
+			reflectiveHidden.register(new HiddenListener());
+			managerPublic.registerEventListener(new PublicListener());
+			managerHidden.registerEventListener(new HiddenListener());
+		}
+
+		Benchmark.heading("Calling an event listened for by " + LISTENERS + " event methods");
+		Benchmark.measure("direct calls", OPERATIONS, operations -> {
+			for (int operation = 0; operation < operations; operation++) {
+				for (PublicListener listener : direct) {
+					listener.onCount(event);
+				}
+			}
+			return direct[0].total;
+		});
+		Benchmark.measure("Method.invoke (public listener)", OPERATIONS, operations -> {
+			for (int operation = 0; operation < operations; operation++) {
+				reflectivePublic.call(event);
+			}
+			return ++totals[0];
+		});
+		Benchmark.measure("callEvent (LambdaMetafactory)", OPERATIONS, operations -> {
+			for (int operation = 0; operation < operations; operation++) {
+				managerPublic.callEvent(event);
+			}
+			return ++totals[0];
+		});
+		Benchmark.measure("Method.invoke (hidden listener)", OPERATIONS, operations -> {
+			for (int operation = 0; operation < operations; operation++) {
+				reflectiveHidden.call(event);
+			}
+			return ++totals[0];
+		});
+		Benchmark.measure("callEvent (MethodHandle)", OPERATIONS, operations -> {
+			for (int operation = 0; operation < operations; operation++) {
+				managerHidden.callEvent(event);
+			}
+			return ++totals[0];
+		});
+		System.out.println("(" + Benchmark.getBlackhole() + ")");
+	}
+
+}
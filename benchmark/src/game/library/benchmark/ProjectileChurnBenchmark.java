@@ -0,0 +1,113 @@
+package game.library.benchmark;
+
+import java.util.Objects;
+import java.util.Random;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import game.library.projectile.Projectile;
+import game.library.projectile.ProjectilePool;
+import game.library.projectile.ProjectileStore;
+
+/**
+ * This benchmark stresses the lifecycle of projectiles at a high churn, where
+ * thousands of short lived projectiles are started and expire every frame while
+ * a steady amount stays alive. The {@code ProjectilePool} is compared with the
+ * way it used to update its projectiles, and with the packed
+ * {@code ProjectileStore}. A single operation is a single frame.
+ *
+ * @author Albert Beaupre
+ */
+public class ProjectileChurnBenchmark {
+
+	private static final int FRAMES = 200;
+	private static final int SPAWNED_PER_FRAME = 2_000;
+	private static final int MAXIMUM_LIFETIME = 40; // the most frames a projectile lives for
+	private static final float DELTA = 1 / 60f;
+	private static final float SPEED = 120;
+
+	/**
+	 * The way the {@code ProjectilePool} used to update its projectiles, freeing an
+	 * expired projectile the update after it expired, and skipping the projectile
+	 * moved into the index of a removed one.
+	 */
+	private static class LegacyProjectilePool extends Pool<Projectile> {
+		private final Array<Projectile> rendering = new Array<>(false, 16);
+
+		private void update(float delta) {
+			for (int index = 0; index < this.rendering.size; index++) {
+				Projectile projectile = this.rendering.get(index);
+				if (Objects.isNull(projectile)) continue;
+
+				if (projectile.canBeDestroyed()) {
+					this.free(projectile);
+					this.rendering.removeIndex(index);
+					continue;
+				}
+				projectile.update(delta);
+			}
+		}
+
+		@Override
+		protected Projectile newObject() {
+			return new Projectile();
+		}
+	}
+
+	private static final Vector2 ORIGIN = new Vector2();
+	private static final Vector2 target = new Vector2();
+
+	/**
+	 * Builds a projectile from the given {@code pool} living for a random amount of
+	 * frames.
+	 */
+	private static Projectile spawn(Pool<Projectile> pool, Random random) {
+		final float lifetime = (1 + random.nextInt(MAXIMUM_LIFETIME)) * DELTA;
+		final float angle = random.nextFloat() * 360;
+		target.set(1, 0).setAngleDeg(angle).scl(1000);
+		return pool.obtain().beginning(ORIGIN).ending(target).speed(SPEED).distanceLimit(SPEED * lifetime);
+	}
+
+	public static void main(String[] args) {
+		final LegacyProjectilePool legacy = new LegacyProjectilePool();
+		final ProjectilePool pool = new ProjectilePool(16);
+		final ProjectileStore store = pool.getStore();
+		final Random random = new Random(7);
+
+		Benchmark.heading("A frame spawning " + SPAWNED_PER_FRAME + " projectiles living up to " + MAXIMUM_LIFETIME + " frames");
+		Benchmark.measure("legacy ProjectilePool", FRAMES, frames -> {
+			for (int frame = 0; frame < frames; frame++) {
+				for (int spawned = 0; spawned < SPAWNED_PER_FRAME; spawned++) {
+					legacy.rendering.add(spawn(legacy, random));
+				}
+				legacy.update(DELTA);
+			}
+			return legacy.rendering.size;
+		});
+		Benchmark.measure("ProjectilePool", FRAMES, frames -> {
+			for (int frame = 0; frame < frames; frame++) {
+				for (int spawned = 0; spawned < SPAWNED_PER_FRAME; spawned++) {
+					pool.addProjectile(spawn(pool, random));
+				}
+				pool.update(DELTA);
+			}
+			return pool.getActiveCount();
+		});
+		Benchmark.measure("ProjectileStore", FRAMES, frames -> {
+			for (int frame = 0; frame < frames; frame++) {
+				for (int spawned = 0; spawned < SPAWNED_PER_FRAME; spawned++) {
+					final Projectile projectile = spawn(pool, random);
+					store.add(projectile);
+					pool.free(projectile);
+				}
+				store.update(DELTA);
+			}
+			return store.size();
+		});
+		System.out.println("live projectiles: legacy " + legacy.rendering.size + ", pool " + pool.getActiveCount() + ", store " + store.size());
+		System.out.println("(" + Benchmark.getBlackhole() + ")");
+	}
+
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.ScreenUtils;
 
 import game.library.screen.GameScreen;
+import game.library.tick.FixedStepClock;
 
 /**
  * This class is the {@code ApplicationListener} for the application. Handles
@@ -22,6 +23,12 @@ public class GameApplicationListener implements ApplicationListener {
 
 	private GameScreen currentScreen;
 
+	/**
+	 * The clock used to update the simulation with a fixed timestep of 60 steps
+	 * every second, with at most 5 steps within a single frame.
+	 */
+	private final FixedStepClock clock = new FixedStepClock(60, 5);
+
 	/**
 	 * Called when the {@link Application} is first created.
 	 */
@@ -55,13 +62,24 @@ public class GameApplicationListener implements ApplicationListener {
 		if (Objects.nonNull(this.currentScreen)) {
 
 			if (!GameApplicationListener.PAUSED) {
-				final float deltaTime = Gdx.graphics.getDeltaTime();
+				final int steps = this.clock.accumulate(Gdx.graphics.getDeltaTime());
+				final float stepTime = this.clock.getStepTime();
+
+				for (int step = 0; step < steps; step++) {
+					/**
+					 * World updating
+					 */
+					this.currentScreen.update(stepTime);
+					this.currentScreen.getWorld().step(stepTime, 1, 1);
+
+					LibraryConstants.getTickPool().update(stepTime);
+					LibraryConstants.getProjectilePool().update(stepTime);
+				}
 
 				/**
-				 * World updating
+				 * Events posted from other threads, and then coalesced events, are called once the simulation has been stepped
 				 */
-				this.currentScreen.update(deltaTime);
-				this.currentScreen.getWorld().step(deltaTime, 1, 1);
+				LibraryConstants.getEventManager().update();
 
 				/**
 				 * Ray handler updating
@@ -70,9 +88,6 @@ public class GameApplicationListener implements ApplicationListener {
 				this.currentScreen.getRayHandler().setCombinedMatrix(this.currentScreen.getBatchCamera());
 				this.currentScreen.getRayHandler().update();
 				this.currentScreen.getScreenBatch().setProjectionMatrix(this.currentScreen.getBatchCamera().combined);
-
-				LibraryConstants.getTickPool().update(deltaTime);
-				LibraryConstants.getProjectilePool().update(deltaTime);
 			}
 			this.currentScreen.render();
 			this.currentScreen.getRayHandler().render();
@@ -97,6 +112,7 @@ public class GameApplicationListener implements ApplicationListener {
 	 */
 	public void resume() {
 		GameApplicationListener.PAUSED = false;
+		this.clock.clear();
 	}
 
 	/**
@@ -107,6 +123,7 @@ public class GameApplicationListener implements ApplicationListener {
 		if (Objects.nonNull(this.currentScreen)) {
 			this.currentScreen.dispose();
 		}
+		LibraryConstants.getTickPool().dispose();
 	}
 
 	/**
@@ -142,6 +159,17 @@ public class GameApplicationListener implements ApplicationListener {
 		return this.currentScreen;
 	}
 
+	/**
+	 * Returns the clock used to update the simulation with a fixed timestep. The
+	 * step rate and maximum steps within a single frame can be changed through the
+	 * clock, and its alpha should be used to interpolate rendering.
+	 * 
+	 * @return the fixed step clock
+	 */
+	public FixedStepClock getClock() {
+		return this.clock;
+	}
+
 	/**
 	 * Returns true if this {@code GameApplicationListener} is paused. If this
 	 * returns true, then the application will not update, but it will still render.
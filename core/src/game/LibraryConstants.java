@@ -47,20 +47,7 @@ public final class LibraryConstants {
 	 * @param logLevel the level of logging for the application
 	 */
 	public static void load(int logLevel) {
-		Gdx.app.setLogLevel(logLevel);
-
-		/**
-		 * Adds the tick pool class to the pools map with an initial capacity of 10
-		 */
-		Pools.set(Tick.class, new TickPool(10));
-		Gdx.app.log("Library Constants", "Set Tick Pool with initial capacity of 10.");
-
-		/**
-		 * Adds the projectile pool class to the pools map with an initial capacity of
-		 * 10
-		 */
-		Pools.set(Projectile.class, new ProjectilePool(10));
-		Gdx.app.log("Library Constants", "Set Projectile Pool with initial capacity of 10.");
+		LibraryConstants.loadSimulation(logLevel);
 
 		/**
 		 * Load the VisUI skin.
@@ -85,6 +72,38 @@ public final class LibraryConstants {
 		Gdx.app.log("Library Constants", "Garbage Collector Called.");
 	}
 
+	/**
+	 * Loads only the variables used by the simulation, which need no rendering
+	 * context. This is used by a headless server, and is called by
+	 * {@link #load(int)} before loading anything used for rendering.
+	 * 
+	 * <p>
+	 * Currently loading these constants:
+	 * <ul>
+	 * <li>Tick Pool</li>
+	 * <li>Projectile Pool</li>
+	 * </ul>
+	 * </p>
+	 * 
+	 * @param logLevel the level of logging for the application
+	 */
+	public static void loadSimulation(int logLevel) {
+		Gdx.app.setLogLevel(logLevel);
+
+		/**
+		 * Adds the tick pool class to the pools map with an initial capacity of 10
+		 */
+		Pools.set(Tick.class, new TickPool(10));
+		Gdx.app.log("Library Constants", "Set Tick Pool with initial capacity of 10.");
+
+		/**
+		 * Adds the projectile pool class to the pools map with an initial capacity of
+		 * 10
+		 */
+		Pools.set(Projectile.class, new ProjectilePool(10));
+		Gdx.app.log("Library Constants", "Set Projectile Pool with initial capacity of 10.");
+	}
+
 	/**
 	 * Returns the {@code TickPool} constant of this {@code LibraryConstants} class.
 	 * 
@@ -0,0 +1,27 @@
+package game.library.event;
+
+/**
+ * An {@code EventInvoker} calls a single event method of a
+ * {@code GameEventListener} directly, without going through reflection. The
+ * {@code GameEventManager} creates an invoker for every {@code GameEventMethod}
+ * it registers.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.event.GameEventManager
+ * @see game.library.event.GameEventMethod
+ */
+@FunctionalInterface
+public interface EventInvoker {
+
+	/**
+	 * Calls the event method of the given {@code listener} with the given
+	 * {@code event}.
+	 * 
+	 * @param listener the listener with the event method
+	 * @param event    the event to call the method with
+	 * @throws Throwable if the event method throws anything
+	 */
+	void invoke(GameEventListener listener, GameEvent event) throws Throwable;
+
+}
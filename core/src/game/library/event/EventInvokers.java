@@ -0,0 +1,132 @@
+package game.library.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class creates the {@code EventInvoker} of an event method. If the
+ * class declaring the method and the class of its event can be reached from
+ * this package, then a lambda calling the method is spun through the
+ * {@code LambdaMetafactory},
+ * which costs about as much to invoke as a virtual call. Otherwise the invoker
+ * calls a {@code MethodHandle} of the method, which still avoids the argument
+ * boxing and access checks of {@code Method.invoke}. A method which falls back
+ * to its method handle after the lambda could not be spun is logged once.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.event.EventInvoker
+ */
+final class EventInvokers {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(EventInvoker.class);
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, GameEventListener.class, GameEvent.class);
+	private static final ObjectMap<Method, EventInvoker> INVOKERS = new ObjectMap<>(); // the invoker created for every event method
+
+	private EventInvokers() {
+		throw new UnsupportedOperationException("EventInvokers is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Returns the {@code EventInvoker} calling the given event {@code method}. The
+	 * invoker of a method is created once and shared by every listener the method
+	 * is registered for, so an event calling many listeners of the same class only
+	 * ever sees a single invoker class.
+	 * 
+	 * @param method the event method, which must have a single parameter
+	 * @return the invoker of the method
+	 * @throws IllegalArgumentException if the method cannot be accessed
+	 */
+	static synchronized EventInvoker get(Method method) {
+		EventInvoker invoker = INVOKERS.get(method);
+		if (Objects.isNull(invoker)) {
+			invoker = create(method);
+			INVOKERS.put(method, invoker);
+		}
+		return invoker;
+	}
+
+	/**
+	 * Creates an {@code EventInvoker} calling the given event {@code method}.
+	 * 
+	 * @param method the event method, which must have a single parameter
+	 * @return the invoker of the method
+	 * @throws IllegalArgumentException if the method cannot be accessed
+	 */
+	private static EventInvoker create(Method method) {
+		final Class<?> listenerClass = method.getDeclaringClass();
+		final MethodHandle handle;
+		try {
+			handle = LOOKUP.unreflect(method);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException("The event method " + method + " cannot be accessed", e);
+		}
+
+		final Class<?> eventType = method.getParameterTypes()[0];
+		if (isSpinnable(listenerClass, eventType)) {
+			final MethodType instantiated = MethodType.methodType(void.class, listenerClass, eventType);
+			try {
+				final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "invoke", INVOKER_TYPE, INVOKE_TYPE, handle, instantiated);
+				return (EventInvoker) site.getTarget().invokeExact();
+			} catch (LambdaConversionException e) {
+				if (Objects.nonNull(Gdx.app)) Gdx.app.error("Event Invokers", "The event method " + method + " is called through a method handle, since its lambda could not be spun", e);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable throwable) {
+				throw new IllegalStateException("The invoker of the event method " + method + " could not be created", throwable);
+			}
+		}
+
+		final MethodHandle adapted = handle.asType(INVOKE_TYPE);
+		return (listener, event) -> {
+			adapted.invokeExact(listener, event);
+		};
+	}
+
+	/**
+	 * Returns true if a lambda can be spun for an event method declared within the
+	 * given {@code listenerClass} and listening for the given {@code eventType}. A
+	 * method listening for an interface, or declared within a class which is not a
+	 * {@code GameEventListener}, does not fit the signature of the invoker, so it
+	 * is called through its method handle.
+	 */
+	private static boolean isSpinnable(Class<?> listenerClass, Class<?> eventType) {
+		if (!GameEvent.class.isAssignableFrom(eventType) || !GameEventListener.class.isAssignableFrom(listenerClass)) return false;
+		return isReachable(listenerClass) && isReachable(eventType) && isVisible(listenerClass) && isVisible(eventType);
+	}
+
+	/**
+	 * Returns true if the given {@code type} and every class enclosing it are
+	 * public, so a lambda spun within this package can refer to it.
+	 */
+	private static boolean isReachable(Class<?> type) {
+		for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+			if (!Modifier.isPublic(current.getModifiers())) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the given {@code type} can be loaded by the class loader of
+	 * this class, which is the loader a spun lambda is defined within.
+	 */
+	private static boolean isVisible(Class<?> type) {
+		try {
+			return Class.forName(type.getName(), false, EventInvokers.class.getClassLoader()) == type;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+}
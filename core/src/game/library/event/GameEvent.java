@@ -1,5 +1,7 @@
 package game.library.event;
 
+import com.badlogic.gdx.utils.Pool.Poolable;
+
 import game.LibraryConstants;
 
 /**
@@ -14,13 +16,26 @@ import game.LibraryConstants;
  * The {@link game.library.event.GameEventManager} class is used to manage the
  * calling, registering, and unregistering of an {@code Event}.
  * 
+ * <p>
+ * Events are poolable. An event called many times every frame can be obtained
+ * from its pool through {@link GameEventManager#obtainEvent(Class)}, and given
+ * back once it has been called through
+ * {@link GameEventManager#callAndFree(GameEvent)}, so calling it creates no
+ * garbage. An event holding any state of its own must override
+ * {@link #reset()} to clear it, calling the reset of this class as well.
+ * 
  * @see game.library.event.GameEventManager
  * @see game.library.event.GameEventListener
  * @see game.library.event.GameEventMethod
  * 
  * @author Albert Beaupre
  */
-public class GameEvent {
+public class GameEvent implements Poolable {
+
+	/**
+	 * The key of an event which is not routed to keyed listeners.
+	 */
+	public static final long NO_KEY = Long.MIN_VALUE;
 
 	private boolean consumed; // This will flag whether or not this specific event has been used.
 	private boolean cancelled; // This will flag whether or not this specific event has been cancelled.
@@ -41,6 +56,60 @@ public class GameEvent {
 		LibraryConstants.getEventManager().callEvent(this);
 	}
 
+	/**
+	 * Posts this {@code Event} to the {@code EventManager} within the
+	 * {@link game.LibraryConstants}, to be called on the game thread once the
+	 * manager is next updated. Unlike {@link #call()}, this can be done from any
+	 * thread.
+	 * 
+	 * @return true if posted; return false if too many events are waiting to be
+	 *         called
+	 */
+	public boolean post() {
+		return LibraryConstants.getEventManager().postEvent(this);
+	}
+
+	/**
+	 * Coalesces this {@code Event} within the {@code EventManager} of the
+	 * {@link game.LibraryConstants}, to be called once at the end of the frame.
+	 * If an event of the same class with the same coalescing key is already
+	 * waiting, then this event replaces it.
+	 * 
+	 * @return true if a waiting event was replaced; return false otherwise
+	 * 
+	 * @see #getCoalescingKey()
+	 */
+	public boolean coalesce() {
+		return LibraryConstants.getEventManager().coalesceEvent(this);
+	}
+
+	/**
+	 * Returns the key this {@code Event} is coalesced by. Coalesced events of the
+	 * same class with equal keys are merged, so only the latest of them is called.
+	 * Events changing the state of a subject, such as a container or a position,
+	 * should return the subject.
+	 * 
+	 * @return the coalescing key; return null if this event is never merged
+	 */
+	public Object getCoalescingKey() {
+		return null;
+	}
+
+	/**
+	 * Returns the key this {@code Event} is routed by. Besides the listeners
+	 * registered for every event, the event is only called for the listeners
+	 * registered under its key, such as the identifier of the entity it concerns.
+	 * 
+	 * @return the routing key; return {@link #NO_KEY} if this event is not routed
+	 *         to keyed listeners
+	 * 
+	 * @see game.library.event.GameEventManager#registerEventListener(GameEventListener,
+	 *      long)
+	 */
+	public long getKey() {
+		return NO_KEY;
+	}
+
 	/**
 	 * This will switch the {@code consumed} flag of this {@code Event} to be on so
 	 * the {@link game.library.event.GameEventManager} will know it has been consumed
@@ -81,4 +150,13 @@ public class GameEvent {
 		return cancelled;
 	}
 
+	/**
+	 * Resets the object for reuse. Object references should be nulled and fields
+	 * may be set to default values.
+	 */
+	public void reset() {
+		this.consumed = false;
+		this.cancelled = false;
+	}
+
 }
@@ -0,0 +1,150 @@
+package game.library.event;
+
+import java.util.Objects;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class holds the coalesced events of a {@code GameEventManager} until
+ * the end of the frame. An event with a coalescing key replaces any event of
+ * the same class and key already waiting, so an event fired many times every
+ * frame for the same subject is only called once, with its latest state. The
+ * waiting events are called in the order their first event was coalesced.
+ *
+ * <p>
+ * An event coalesced while the waiting events are being called waits for the
+ * following frame. Nothing is allocated once the maps of keys have grown to
+ * hold the keys of a frame.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.event.GameEventManager#coalesceEvent(GameEvent)
+ * @see game.library.event.GameEvent#getCoalescingKey()
+ */
+public final class GameEventCoalescer {
+
+	private Array<GameEvent> pending; // the events waiting to be called, in the order they were first coalesced
+	private Array<GameEvent> flushing; // the events being called by the current flush
+	private final ObjectMap<Class<?>, ObjectIntMap<Object>> indices; // the index within the pending events of every key, by event class
+
+	private long coalescedCount; // the amount of events replaced by a later event with the same key
+	private int frameCoalescedCount; // the amount of events replaced since the last flush
+	private int lastCoalescedCount; // the amount of events replaced during the frame of the last flush
+	private int lastFlushCount; // the amount of events called by the last flush
+
+	/**
+	 * Constructs a new, empty {@code GameEventCoalescer}.
+	 */
+	GameEventCoalescer() {
+		this.pending = new Array<>(true, 16, GameEvent.class);
+		this.flushing = new Array<>(true, 16, GameEvent.class);
+		this.indices = new ObjectMap<>();
+	}
+
+	/**
+	 * Adds the given {@code event} to the waiting events, replacing the event of
+	 * the same class and coalescing key if one is waiting. An event without a
+	 * coalescing key never replaces another.
+	 *
+	 * @param event the event to coalesce
+	 * @return true if a waiting event was replaced; return false otherwise
+	 */
+	boolean offer(GameEvent event) {
+		final Object key = event.getCoalescingKey();
+		if (Objects.isNull(key)) {
+			this.pending.add(event);
+			return false;
+		}
+
+		ObjectIntMap<Object> keys = this.indices.get(event.getClass());
+		if (Objects.isNull(keys)) {
+			keys = new ObjectIntMap<>();
+			this.indices.put(event.getClass(), keys);
+		}
+
+		final int index = keys.get(key, -1);
+		if (index >= 0) {
+			this.pending.set(index, event);
+			this.coalescedCount++;
+			this.frameCoalescedCount++;
+			return true;
+		}
+		keys.put(key, this.pending.size);
+		this.pending.add(event);
+		return false;
+	}
+
+	/**
+	 * Calls the waiting events through the given {@code manager}. This method must
+	 * only be called from the game thread.
+	 *
+	 * @param manager the manager to call the events through
+	 * @return the amount of events called
+	 */
+	int flush(GameEventManager manager) {
+		this.lastCoalescedCount = this.frameCoalescedCount;
+		this.frameCoalescedCount = 0;
+		if (this.pending.size == 0) {
+			this.lastFlushCount = 0;
+			return 0;
+		}
+
+		final Array<GameEvent> events = this.pending;
+		this.pending = this.flushing;
+		this.flushing = events;
+		for (ObjectIntMap<Object> keys : this.indices.values()) {
+			keys.clear();
+		}
+
+		final int count = events.size;
+		try {
+			for (int index = 0; index < count; index++) {
+				manager.callEvent(events.get(index));
+			}
+		} finally {
+			events.clear();
+			this.lastFlushCount = count;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the amount of events waiting to be called.
+	 *
+	 * @return the amount of waiting events
+	 */
+	public int size() {
+		return this.pending.size;
+	}
+
+	/**
+	 * Returns the amount of events which were replaced by a later event with the
+	 * same coalescing key, and so were never called.
+	 *
+	 * @return the amount of collapsed events
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount;
+	}
+
+	/**
+	 * Returns the amount of events collapsed during the frame of the last update.
+	 *
+	 * @return the amount of events collapsed by the last update
+	 */
+	public int getLastCoalescedCount() {
+		return lastCoalescedCount;
+	}
+
+	/**
+	 * Returns the amount of coalesced events called by the last update.
+	 *
+	 * @return the amount of events called by the last update
+	 */
+	public int getLastFlushCount() {
+		return lastFlushCount;
+	}
+
+}
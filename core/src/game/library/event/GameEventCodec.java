@@ -0,0 +1,52 @@
+package game.library.event;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code GameEventCodec} writes the state of a single class of event into the
+ * bytes of a {@code GameEventJournal}, and reads the event back from them when
+ * the journal is replayed. A codec should write everything its event methods
+ * depend on, since the event is only rebuilt from what it wrote.
+ * 
+ * <pre>
+ * registry.register(1, DamageEvent.class, new GameEventCodec&lt;DamageEvent&gt;() {
+ * 	public void write(DamageEvent event, ByteBuffer buffer) {
+ * 		buffer.putInt(event.getTarget()).putFloat(event.getAmount());
+ * 	}
+ * 
+ * 	public DamageEvent read(ByteBuffer buffer) {
+ * 		return manager.obtainEvent(DamageEvent.class).set(buffer.getInt(), buffer.getFloat());
+ * 	}
+ * });
+ * </pre>
+ * 
+ * @author Albert Beaupre
+ * 
+ * @param <T> the class of event written and read
+ * 
+ * @see game.library.event.GameEventCodecRegistry
+ */
+public interface GameEventCodec<T extends GameEvent> {
+
+	/**
+	 * Writes the state of the given {@code event} into the given {@code buffer}.
+	 * Nothing should be allocated, since this is done for every event journaled.
+	 * 
+	 * @param event  the event to write
+	 * @param buffer the buffer to write into
+	 */
+	void write(T event, ByteBuffer buffer);
+
+	/**
+	 * Reads an event from the given {@code buffer}, holding exactly the bytes
+	 * written for it. The event is freed into the pool of its class once it has
+	 * been replayed, so it should be obtained from that pool.
+	 * 
+	 * @param buffer the buffer to read from
+	 * @return the event read
+	 * 
+	 * @see game.library.event.GameEventManager#obtainEvent(Class)
+	 */
+	T read(ByteBuffer buffer);
+
+}
@@ -0,0 +1,99 @@
+package game.library.event;
+
+import java.util.Objects;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * This class maps the classes of events to the codecs which write them into a
+ * {@code GameEventJournal}, under stable integer identifiers. A journal holds
+ * the identifier of every event it records rather than its class, and the same
+ * registry is used to find the codec again once the journal is replayed. The
+ * identifiers must therefore stay the same between the game that records a
+ * journal and the game that replays it.
+ * 
+ * <p>
+ * Only events of a class registered here are journaled. Events are looked up
+ * by their exact class, so subclasses must be registered on their own.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.event.GameEventJournal
+ * @see game.library.event.GameEventReplay
+ */
+public class GameEventCodecRegistry {
+
+	/**
+	 * The identifier returned for a class of event which has not been registered.
+	 * Identifiers of registered codecs must be positive.
+	 */
+	public static final int UNREGISTERED = 0;
+
+	private final IntMap<GameEventCodec<?>> codecs; // the codecs indexed by their identifier
+	private final ObjectIntMap<Class<?>> identifiers; // the identifiers indexed by the class of their event
+
+	/**
+	 * Constructs a new, empty {@code GameEventCodecRegistry}.
+	 */
+	public GameEventCodecRegistry() {
+		this.codecs = new IntMap<>();
+		this.identifiers = new ObjectIntMap<>();
+	}
+
+	/**
+	 * Registers the given {@code codec} for the given {@code type} of event, under
+	 * the given {@code id}.
+	 * 
+	 * @param id    the stable identifier of the codec
+	 * @param type  the class of event written by the codec
+	 * @param codec the codec
+	 * @return this instance for chaining
+	 * @throws IllegalArgumentException if the identifier is not positive, or the
+	 *                                  identifier or type is already registered
+	 */
+	public <T extends GameEvent> GameEventCodecRegistry register(int id, Class<T> type, GameEventCodec<T> codec) {
+		Objects.requireNonNull(type, "Cannot register a codec for a NULL Event class");
+		Objects.requireNonNull(codec, "Cannot register a NULL GameEventCodec");
+		if (id <= UNREGISTERED) throw new IllegalArgumentException("The identifier of a GameEventCodec must be positive");
+		if (this.codecs.containsKey(id)) throw new IllegalArgumentException("A GameEventCodec is already registered under the identifier " + id);
+		if (this.identifiers.containsKey(type)) throw new IllegalArgumentException("A GameEventCodec is already registered for " + type.getName());
+
+		this.codecs.put(id, codec);
+		this.identifiers.put(type, id);
+		return this;
+	}
+
+	/**
+	 * Returns the codec registered under the given {@code id}.
+	 * 
+	 * @param id the identifier of the codec
+	 * @return the codec; return null if no codec is registered under the
+	 *         identifier
+	 */
+	public GameEventCodec<?> getCodec(int id) {
+		return this.codecs.get(id);
+	}
+
+	/**
+	 * Returns the identifier of the codec registered for the given {@code type} of
+	 * event.
+	 * 
+	 * @param type the class of event
+	 * @return the identifier; return {@link #UNREGISTERED} if no codec is
+	 *         registered for the class
+	 */
+	public int getId(Class<?> type) {
+		return this.identifiers.get(type, UNREGISTERED);
+	}
+
+	/**
+	 * Returns the amount of codecs registered.
+	 * 
+	 * @return the amount of codecs
+	 */
+	public int size() {
+		return this.codecs.size;
+	}
+
+}
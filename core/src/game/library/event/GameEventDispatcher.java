@@ -0,0 +1,70 @@
+package game.library.event;
+
+/**
+ * A {@code GameEventDispatcher} describes the event methods of a single
+ * {@code GameEventListener} class. Dispatchers are generated at compile time by
+ * the event processor for every listener class with a {@code GameEventMethod},
+ * and are listed as services of this interface. The {@code GameEventManager}
+ * registers the methods of a listener through its dispatcher when there is one,
+ * so no reflection is used, and falls back to scanning the listener for its
+ * event methods otherwise.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.event.GameEventManager
+ * @see game.library.event.GameEventMethod
+ */
+public interface GameEventDispatcher {
+
+	/**
+	 * Returns the class of the listener this dispatcher describes.
+	 * 
+	 * @return the listener class
+	 */
+	Class<?> getListenerClass();
+
+	/**
+	 * Returns the amount of event methods of the listener class.
+	 * 
+	 * @return the amount of event methods
+	 */
+	int getMethodCount();
+
+	/**
+	 * Returns the name of the event method at the given {@code index}.
+	 * 
+	 * @param index the index of the event method
+	 * @return the name of the method
+	 */
+	String getMethodName(int index);
+
+	/**
+	 * Returns the type of event the event method at the given {@code index} listens
+	 * for, which is the type of its parameter.
+	 * 
+	 * @param index the index of the event method
+	 * @return the event type
+	 */
+	Class<?> getEventType(int index);
+
+	/**
+	 * Returns the priority of the event method at the given {@code index}.
+	 * 
+	 * @param index the index of the event method
+	 * @return the priority of the method
+	 * 
+	 * @see game.library.event.GameEventMethod#priority()
+	 */
+	default int getPriority(int index) {
+		return 0;
+	}
+
+	/**
+	 * Returns the invoker calling the event method at the given {@code index}.
+	 * 
+	 * @param index the index of the event method
+	 * @return the invoker of the method
+	 */
+	EventInvoker getInvoker(int index);
+
+}
@@ -0,0 +1,66 @@
+package game.library.event;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class finds the generated {@code GameEventDispatcher} of a listener
+ * class. The dispatchers are loaded as services the first time one is looked
+ * up, and are indexed by the class of their listener rather than by name, so
+ * they are still found once the listener classes have been renamed by an
+ * obfuscator. A dispatcher which cannot be loaded, because its class has been
+ * stripped from the build, is skipped.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.event.GameEventDispatcher
+ */
+final class GameEventDispatchers {
+
+	private static ObjectMap<Class<?>, GameEventDispatcher> dispatchers; // the dispatchers indexed by their listener class, loaded on first use
+
+	private GameEventDispatchers() {
+		throw new UnsupportedOperationException("GameEventDispatchers is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Returns the generated dispatcher of the given {@code listenerClass}.
+	 * 
+	 * @param listenerClass the class of the listener
+	 * @return the dispatcher; return null if the listener class has no generated
+	 *         dispatcher
+	 */
+	static synchronized GameEventDispatcher get(Class<?> listenerClass) {
+		if (Objects.isNull(dispatchers)) dispatchers = load();
+		return dispatchers.get(listenerClass);
+	}
+
+	/**
+	 * Loads every dispatcher listed as a service.
+	 * 
+	 * @return the dispatchers indexed by their listener class
+	 */
+	private static ObjectMap<Class<?>, GameEventDispatcher> load() {
+		final ObjectMap<Class<?>, GameEventDispatcher> loaded = new ObjectMap<>();
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (Objects.isNull(loader)) loader = GameEventDispatchers.class.getClassLoader();
+
+		final Iterator<GameEventDispatcher> iterator = ServiceLoader.load(GameEventDispatcher.class, loader).iterator();
+		while (true) {
+			try {
+				if (!iterator.hasNext()) break;
+
+				final GameEventDispatcher dispatcher = iterator.next();
+				loaded.put(dispatcher.getListenerClass(), dispatcher);
+			} catch (ServiceConfigurationError error) {
+				// the dispatcher cannot be loaded, so its listener is scanned through reflection instead
+			}
+		}
+		return loaded;
+	}
+
+}
@@ -0,0 +1,245 @@
+package game.library.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class records the events called through a {@code GameEventManager} into
+ * an append-only, memory-mapped file, along with the frame every event was
+ * called in. The journal can be replayed through a {@code GameEventReplay} to
+ * call the same events in the same frames again, which is used to track down
+ * where two runs of the game stop agreeing.
+ *
+ * <p>
+ * Every event is written as a record holding its frame, the identifier of its
+ * codec, the length of its bytes, and the bytes written by its codec. Records
+ * are written straight into the mapped region of the file, one after another,
+ * so journaling an event costs little more than copying its bytes. Once a
+ * region is full, the next region of the file is mapped. The file is never
+ * truncated, and the zeroed bytes past the last record mark its end.
+ *
+ * <p>
+ * Only events called from outside of any event method are journaled, since the
+ * events called by event methods are called again once their journaled event
+ * is replayed. Events of a class without a registered codec, or which could
+ * not be written, are skipped and counted.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.event.GameEventManager#setJournal(GameEventJournal)
+ * @see game.library.event.GameEventReplay
+ */
+public final class GameEventJournal implements Closeable {
+
+	static final int MAGIC = 0x4556544A; // the bytes "EVTJ"
+	static final byte VERSION = 1;
+
+	/**
+	 * The size, in bytes, of the header holding the magic and version.
+	 */
+	static final int HEADER_SIZE = 4 + 1;
+
+	/**
+	 * The size, in bytes, of the frame, codec identifier and length written before
+	 * the bytes of every event.
+	 */
+	static final int RECORD_HEADER_SIZE = 4 + 4 + 4;
+
+	/**
+	 * The default size, in bytes, of every region of the file mapped at once.
+	 */
+	public static final int DEFAULT_REGION_SIZE = 1 << 24;
+
+	private final FileChannel channel;
+	private final GameEventCodecRegistry codecs;
+	private final int regionSize; // the size of every region of the file mapped at once
+	private MappedByteBuffer region; // the region of the file being written into
+	private long regionStart; // the position of the region within the file
+	private int frame; // the frame events are journaled within
+	private long recordedCount; // the amount of events journaled
+	private long skippedCount; // the amount of events skipped, having no codec registered
+
+	/**
+	 * Constructs a new {@code GameEventJournal} writing into the file at the given
+	 * {@code path}, which is created or emptied.
+	 *
+	 * @param path   the path of the journal file
+	 * @param codecs the registry of codecs writing the events
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public GameEventJournal(Path path, GameEventCodecRegistry codecs) throws IOException {
+		this(path, codecs, DEFAULT_REGION_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@code GameEventJournal} writing into the file at the given
+	 * {@code path}, which is created or emptied, mapping the given amount of bytes
+	 * of the file at once.
+	 *
+	 * @param path       the path of the journal file
+	 * @param codecs     the registry of codecs writing the events
+	 * @param regionSize the size of every region mapped, which must hold the
+	 *                   largest event journaled
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public GameEventJournal(Path path, GameEventCodecRegistry codecs, int regionSize) throws IOException {
+		this.codecs = Objects.requireNonNull(codecs, "The GameEventCodecRegistry cannot be NULL");
+		if (regionSize < HEADER_SIZE + RECORD_HEADER_SIZE) throw new IllegalArgumentException("The region size of a GameEventJournal must be at least " + (HEADER_SIZE + RECORD_HEADER_SIZE) + " bytes");
+
+		this.regionSize = regionSize;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.map(0);
+		this.region.putInt(MAGIC);
+		this.region.put(VERSION);
+	}
+
+	/**
+	 * Writes the given {@code event} into this journal, within the current frame.
+	 * If the event cannot be written, then the bytes written for it are cleared so
+	 * the journal stays readable, and the event is counted as skipped.
+	 *
+	 * @param event the event to write
+	 * @return the exception the event could not be written because of; return
+	 *         null if it was written or has no codec registered
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	RuntimeException record(GameEvent event) {
+		final int id = this.codecs.getId(event.getClass());
+		if (id == GameEventCodecRegistry.UNREGISTERED) {
+			this.skippedCount++;
+			return null;
+		}
+
+		final GameEventCodec codec = this.codecs.getCodec(id);
+		int start = this.region.position();
+		try {
+			try {
+				this.write(codec, id, event);
+			} catch (BufferOverflowException e) {
+				this.clear(start);
+				try {
+					this.map(this.regionStart + start); // the next region begins where the record did, so it is written over
+				} catch (IOException exception) {
+					throw new UncheckedIOException("The next region of the GameEventJournal could not be mapped", exception);
+				}
+				start = 0;
+				try {
+					this.write(codec, id, event);
+				} catch (BufferOverflowException overflow) {
+					throw new IllegalStateException("The " + event.getClass().getName() + " is larger than a region of the GameEventJournal");
+				}
+			}
+		} catch (RuntimeException e) {
+			this.clear(start);
+			this.skippedCount++;
+			return e;
+		}
+		this.recordedCount++;
+		return null;
+	}
+
+	/**
+	 * Clears the bytes of the current region from the given {@code start} up to
+	 * its position, and moves its position back to the start, so a record which
+	 * could not be written is never read back.
+	 */
+	private void clear(int start) {
+		final MappedByteBuffer region = this.region;
+		for (int position = start; position < region.position(); position++) {
+			region.put(position, (byte) 0);
+		}
+		region.position(start);
+	}
+
+	private void write(GameEventCodec<GameEvent> codec, int id, GameEvent event) {
+		final MappedByteBuffer region = this.region;
+		region.putInt(this.frame);
+		region.putInt(id);
+		final int lengthPosition = region.position();
+		region.putInt(0);
+		codec.write(event, region);
+		region.putInt(lengthPosition, region.position() - lengthPosition - 4);
+	}
+
+	/**
+	 * Maps the region of the file beginning at the given {@code position}.
+	 */
+	private void map(long position) throws IOException {
+		this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, position, this.regionSize);
+		this.regionStart = position;
+	}
+
+	/**
+	 * Advances this journal to the next frame. This is done by the
+	 * {@code GameEventManager} journaling into it every time it is updated.
+	 */
+	void nextFrame() {
+		this.frame++;
+	}
+
+	/**
+	 * Returns the frame events are currently journaled within, counted from 0 when
+	 * this journal was created.
+	 *
+	 * @return the current frame
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	/**
+	 * Returns the amount of events written into this journal.
+	 *
+	 * @return the amount of journaled events
+	 */
+	public long getRecordedCount() {
+		return recordedCount;
+	}
+
+	/**
+	 * Returns the amount of events not written into this journal, since no codec
+	 * was registered for their class.
+	 *
+	 * @return the amount of skipped events
+	 */
+	public long getSkippedCount() {
+		return skippedCount;
+	}
+
+	/**
+	 * Returns the amount of bytes written into this journal.
+	 *
+	 * @return the size of the journal
+	 */
+	public long size() {
+		return this.regionStart + this.region.position();
+	}
+
+	/**
+	 * Forces the bytes written into this journal to be written onto the storage
+	 * device holding its file.
+	 */
+	public void flush() {
+		this.region.force();
+	}
+
+	/**
+	 * Flushes and closes this journal. The region last mapped stays valid until it
+	 * is collected, but is no longer written into.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		this.flush();
+		this.channel.close();
+	}
+
+}
@@ -1,9 +1,20 @@
 package game.library.event;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pools;
+import com.badlogic.gdx.utils.Queue;
 
 /**
  * <p>
@@ -15,6 +26,80 @@ import com.badlogic.gdx.utils.Array;
  * {@code EventListener} has successfully listened to an {@code Event}, any
  * method that has been registered within the listener will be called.
  * 
+ * <p>
+ * Event methods are indexed by the type of event they listen for. The first
+ * time an event class is called, the methods listening for that class or any
+ * of its superclasses and interfaces are gathered into an array which is
+ * cached for that class, so calling an event only walks the methods relevant
+ * to it. The arrays are sorted by the priority of their methods once, when they
+ * are gathered, so calling an event never sorts anything. Registering or
+ * unregistering a listener only drops the cached arrays of the event classes
+ * the listener was relevant to.
+ * 
+ * <p>
+ * A cached array is never changed once it has been gathered, so calling an
+ * event only ever reads an array which cannot change beneath it. Listeners can
+ * therefore be registered and unregistered by the event methods being called.
+ * A listener registered while an event is being called listens from the next
+ * call of that event onward, while a listener unregistered while an event is
+ * being called is not called for it any further. The methods of unregistered
+ * listeners are only flagged as removed, and only the stored arrays they were
+ * flagged within are compacted when this manager is updated, up to a limited
+ * amount of arrays every frame.
+ * 
+ * <p>
+ * A listener can also be registered under a key through
+ * {@link #registerEventListener(GameEventListener, long)}, such as the
+ * identifier of an entity. A keyed listener is only called for events with the
+ * same key, which are routed to it through a map of primitive keys, so an event
+ * only ever touches the listeners of its own key rather than every listener
+ * filtering the events it receives. Keyed listeners are called in the same
+ * priority order as every other listener.
+ * 
+ * <p>
+ * A listener registered through
+ * {@link #registerWeakEventListener(GameEventListener)} is only weakly
+ * reachable from this manager, so a listener which is never unregistered can
+ * still be collected. The methods of a collected listener are no longer called,
+ * and are purged when this manager is updated, up to a limited amount of
+ * listeners every frame. Every purged listener is counted as leaked. Weakly
+ * registered listeners are indexed by their identity, so unregistering one
+ * does not search every weakly registered listener.
+ * 
+ * <p>
+ * Event methods are not called through reflection. Every method is given an
+ * {@code EventInvoker} when it is registered, which calls the method directly.
+ * If the event processor has generated a {@code GameEventDispatcher} for the
+ * class of a listener, then the methods are registered through it and the
+ * listener is not scanned at all.
+ * 
+ * <p>
+ * Events can be posted from any thread through {@link #postEvent(GameEvent)}.
+ * Posted events wait within a lock-free queue and are called on the game
+ * thread when this manager is updated, once every frame.
+ * 
+ * <p>
+ * Events fired many times every frame for the same subject can be coalesced
+ * through {@link #coalesceEvent(GameEvent)}. Coalesced events with the same
+ * class and coalescing key are merged, and only the latest of them is called,
+ * once, when this manager is updated.
+ * 
+ * <p>
+ * The calls of events and of every event method can be timed and counted by
+ * enabling the {@code GameEventMetrics} of this manager through
+ * {@link #setMetricsEnabled(boolean)}. While disabled, calling an event does
+ * not read the clock at all.
+ * 
+ * <p>
+ * The events called through this manager can be recorded into a
+ * {@code GameEventJournal} given through {@link #setJournal(GameEventJournal)},
+ * and replayed later through a {@code GameEventReplay}.
+ * 
+ * <p>
+ * Events can be pooled. An event obtained through {@link #obtainEvent(Class)}
+ * comes from the pool of its class, and is given back to it by
+ * {@link #callAndFree(GameEvent)} once it has been called.
+ * 
  * @see game.library.event.GameEvent
  * @see game.library.event.GameEventListener
  * @see game.library.event.GameEventMethod
@@ -31,64 +116,228 @@ public class GameEventManager {
 	 */
 	private class EventExecutor {
 
-		private final GameEventListener listener;
-		private final Method method;
+		private final GameEventListener listener; // the listener, or null if it is weakly registered
+		private final WeakListener reference; // the weak reference to the listener, or null if it is registered normally
+		private final Class<?> listenerClass; // the class of the listener
+		private final String methodName; // the name of the method executed
+		private final EventInvoker invoker; // the invoker calling the method directly
+		private final Class<?> eventType; // the type of event the method listens for
+		private final int priority; // the priority of the method, higher being called first
+		private final long order; // the order this executor was registered in
+		private final long key; // the key this executor was registered under, or NO_KEY for every event
+		private boolean removed; // the flag of an executor unregistered, but not yet compacted
+		private GameEventMetrics.Stat stat; // the metrics stat this executor was last recorded within
 
 		/**
 		 * Constructs a new {@code EventExecutor} with the specified {@code listener}
-		 * that uses the specified {@code method} for execution.
+		 * that uses the specified {@code invoker} for execution.
+		 * 
+		 * @param listener   the event listener with the underlying method
+		 * @param reference  the weak reference to the listener, or null if the
+		 *                   listener is not weakly registered
+		 * @param methodName the name of the method
+		 * @param eventType  the type of event the method listens for
+		 * @param invoker    the invoker calling the method
+		 * @param priority   the priority of the method
+		 * @param order      the order the executor was registered in
+		 * @param key        the key the executor was registered under
+		 */
+		public EventExecutor(GameEventListener listener, WeakListener reference, String methodName, Class<?> eventType, EventInvoker invoker, int priority, long order, long key) {
+			this.listener = Objects.isNull(reference) ? listener : null;
+			this.reference = reference;
+			this.listenerClass = listener.getClass();
+			this.methodName = methodName;
+			this.eventType = eventType;
+			this.invoker = invoker;
+			this.priority = priority;
+			this.order = order;
+			this.key = key;
+		}
+
+		/**
+		 * Returns true if this executor is called before the given {@code executor},
+		 * having a higher priority or having been registered first with the same
+		 * priority.
 		 * 
-		 * @param listener the event listener with the underlying method
-		 * @param method   the method to use for execution
+		 * @param executor the executor to compare with
+		 * @return true if called first; return false otherwise
 		 */
-		public EventExecutor(GameEventListener listener, Method method) {
-			this.listener = listener;
-			this.method = method;
+		public boolean precedes(EventExecutor executor) {
+			if (this.priority != executor.priority) return this.priority > executor.priority;
+			return this.order < executor.order;
 		}
 
 		/**
 		 * Executes the specified {@code event} using the {@code EventListener} and
-		 * {@code Method} attached to this {@code EventExecutor.}
+		 * {@code Method} attached to this {@code EventExecutor.} An exception thrown
+		 * by the method is logged along with the method it was thrown by.
 		 * 
 		 * @param event the event to execute
+		 * @return true if the method threw an exception; return false otherwise
 		 */
-		public void execute(GameEvent event) {
+		public boolean execute(GameEvent event) {
+			final GameEventListener listener = this.getListener();
+			if (Objects.isNull(listener)) return false; // collected, and waiting to be purged
 			try {
-				method.invoke(listener, event);
+				invoker.invoke(listener, event);
+				return false;
 			} catch (Throwable throwable) {
-				throwable.printStackTrace();
+				error("Event Manager", listenerClass.getName() + "#" + methodName + "(" + eventType.getName() + ") threw an exception calling " + event.getClass().getName(), throwable);
+				return true;
 			}
 		}
 
+		/**
+		 * Returns the listener of this executor.
+		 * 
+		 * @return the listener; return null if a weakly registered listener has been
+		 *         collected
+		 */
+		public GameEventListener getListener() {
+			return Objects.isNull(reference) ? listener : reference.get();
+		}
+
 		@Override
 		public boolean equals(Object obj) {
-			return listener.equals(obj);
+			return Objects.equals(this.getListener(), obj);
 		}
 
 		@Override
 		public int hashCode() {
-			return listener.hashCode();
+			return Objects.hashCode(this.getListener());
 		}
 
 		@Override
 		public String toString() {
-			return listener.getClass().getSimpleName();
+			return listenerClass.getSimpleName() + "#" + methodName;
 		}
 
 	}
 
 	/**
-	 * This map is used to store event listener methods based on their relevant
-	 * event.
+	 * The weak reference to a weakly registered listener, holding the event methods
+	 * registered for it.
+	 */
+	private static final class WeakListener extends WeakReference<GameEventListener> {
+
+		private final Array<EventExecutor> executors; // the executors registered for the listener
+		private final int hash; // the identity hash of the listener, which the reference is indexed by
+		private WeakListener next; // the next reference indexed by the same identity hash
+		private int index; // the index of this reference within the weak listeners, or -1 once removed
+
+		/**
+		 * Constructs a new {@code WeakListener} referring to the given
+		 * {@code listener}, which is enqueued within the given {@code queue} once the
+		 * listener has been collected.
+		 * 
+		 * @param listener the listener
+		 * @param queue    the queue of collected listeners
+		 */
+		private WeakListener(GameEventListener listener, ReferenceQueue<GameEventListener> queue) {
+			super(listener, queue);
+			this.executors = new Array<>(false, 4, EventExecutor.class);
+			this.hash = System.identityHashCode(listener);
+		}
+	}
+
+	/**
+	 * The default amount of collected listeners purged every update.
+	 */
+	public static final int DEFAULT_PURGE_LIMIT = 64;
+
+	/**
+	 * The default amount of stored arrays compacted every update.
+	 */
+	public static final int DEFAULT_COMPACT_LIMIT = 16;
+
+	/**
+	 * The array cached for event classes without any relevant event method.
+	 */
+	private static final EventExecutor[] NO_EXECUTORS = {};
+
+	/**
+	 * Orders executors in the order they are called.
+	 */
+	private static final Comparator<EventExecutor> CALL_ORDER = (first, second) -> first.precedes(second) ? -1 : second.precedes(first) ? 1 : 0;
+
+	/**
+	 * This map is used to store event listener methods based on the type of event
+	 * they listen for. Every array is kept in the order its methods are called.
+	 */
+	private final ObjectMap<Class<?>, Array<EventExecutor>> eventExecutors;
+
+	/**
+	 * This map is used to cache the event listener methods relevant to each event
+	 * class that has been called, in the order they are called.
+	 */
+	private final ObjectMap<Class<?>, EventExecutor[]> dispatchCache;
+
+	/**
+	 * This map is used to store the event listener methods of the listeners
+	 * registered under each key, in the order they are called. The arrays are
+	 * replaced rather than changed, so they can be walked while being called.
+	 */
+	private final LongMap<EventExecutor[]> keyedExecutors;
+
+	/**
+	 * This map is used to store the event listener methods of every registered
+	 * listener, so a listener is unregistered without searching every array.
+	 */
+	private final ObjectMap<GameEventListener, Array<EventExecutor>> registrations;
+
+	private final Array<EventExecutor> gathered; // the reusable array used to gather the relevant methods of an event class
+	private final Array<Class<?>> invalidated; // the reusable array of event classes with a cached array to drop
+	private long registrationCount; // the amount of event methods registered, used to order them
+	private final Queue<Class<?>> uncompacted; // the event types with a stored array holding removed methods, in the order they were flagged
+	private final ObjectSet<Class<?>> uncompactedTypes; // the event types within the uncompacted queue
+	private int compactLimit; // the maximum amount of stored arrays compacted every update
+	private GameEventMetrics metrics; // the metrics recording the calls of events, null while disabled
+	private final Array<WeakListener> weakListeners; // the references to every weakly registered listener
+	private final IntMap<WeakListener> weakIndex; // the references to every weakly registered listener, chained by the identity hash of their listener
+	private final ReferenceQueue<GameEventListener> collected; // the references of weakly registered listeners which have been collected
+	private int purgeLimit; // the maximum amount of collected listeners purged every update
+	private long leakedCount; // the amount of weakly registered listeners collected without being unregistered
+	private GameEventJournal journal; // the journal recording the events called, null while not journaling
+	private boolean journaling; // the flag of an event being called while journaling, so events it calls are not journaled
+	private final GameEventQueue postQueue; // the events posted from any thread, waiting to be called
+	private final GameEventCoalescer coalescer; // the coalesced events, waiting to be called at the end of the frame
+
+	/**
+	 * The default amount of events which can be posted before they are called.
 	 */
-	private final Array<EventExecutor> eventExecutors;
+	public static final int DEFAULT_POST_CAPACITY = 1024;
 
 	/**
 	 * Constructs a new {@code EventManager} with no {@code EventListener}
 	 * registered.
 	 */
 	public GameEventManager() {
-		this.eventExecutors = new Array<>(false, 10);
+		this(DEFAULT_POST_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new {@code EventManager} with no {@code EventListener}
+	 * registered, which can hold the given amount of posted events before they are
+	 * called.
+	 * 
+	 * @param postCapacity the capacity of the queue of posted events
+	 */
+	public GameEventManager(int postCapacity) {
+		this.postQueue = new GameEventQueue(postCapacity);
+		this.coalescer = new GameEventCoalescer();
+		this.eventExecutors = new ObjectMap<>();
+		this.dispatchCache = new ObjectMap<>();
+		this.registrations = new ObjectMap<>();
+		this.keyedExecutors = new LongMap<>();
+		this.weakListeners = new Array<>(false, 16, WeakListener.class);
+		this.weakIndex = new IntMap<>();
+		this.collected = new ReferenceQueue<>();
+		this.purgeLimit = DEFAULT_PURGE_LIMIT;
+		this.uncompacted = new Queue<>();
+		this.uncompactedTypes = new ObjectSet<>();
+		this.compactLimit = DEFAULT_COMPACT_LIMIT;
+		this.gathered = new Array<>(false, 16, EventExecutor.class);
+		this.invalidated = new Array<>(false, 16);
 	}
 
 	/**
@@ -103,15 +352,191 @@ public class GameEventManager {
 	 */
 	public void registerEventListener(GameEventListener listener) {
 		if (Objects.isNull(listener)) throw new NullPointerException("Cannot register NULL EventListener");
+		this.register(listener, GameEvent.NO_KEY, false);
+	}
+
+	/**
+	 * Registers the specified {@code listener} to this {@code EventManager} under
+	 * the given {@code key}, to listen only for the relevant events with the same
+	 * key. An entity can use this to listen for the events concerning itself,
+	 * without being called for the events of every other entity.
+	 * 
+	 * @param listener the listener to be registered
+	 * @param key      the key of the events to listen for
+	 * 
+	 * @see game.library.event.GameEvent#getKey()
+	 * 
+	 * @throws NullPointerException     if the listener argument is null
+	 * @throws IllegalArgumentException if the key is {@link GameEvent#NO_KEY}
+	 */
+	public void registerEventListener(GameEventListener listener, long key) {
+		if (Objects.isNull(listener)) throw new NullPointerException("Cannot register NULL EventListener");
+		if (key == GameEvent.NO_KEY) throw new IllegalArgumentException("The key " + key + " is reserved for events which are not keyed");
+		this.register(listener, key, false);
+	}
+
+	/**
+	 * Registers the specified {@code listener} to this {@code EventManager} without
+	 * keeping it reachable, to listen for any events relevant to the methods the
+	 * {@code listener} has. If the listener is collected before it is
+	 * unregistered, then it stops listening and is purged during a later update.
+	 * 
+	 * @param listener the listener to be registered
+	 * 
+	 * @see #getLeakedListenerCount()
+	 * 
+	 * @throws NullPointerException if the listener argument is null
+	 */
+	public void registerWeakEventListener(GameEventListener listener) {
+		if (Objects.isNull(listener)) throw new NullPointerException("Cannot register NULL EventListener");
+		this.register(listener, GameEvent.NO_KEY, true);
+	}
+
+	/**
+	 * Registers the specified {@code listener} to this {@code EventManager} under
+	 * the given {@code key} without keeping it reachable, to listen only for the
+	 * relevant events with the same key.
+	 * 
+	 * @param listener the listener to be registered
+	 * @param key      the key of the events to listen for
+	 * 
+	 * @see #registerEventListener(GameEventListener, long)
+	 * @see #registerWeakEventListener(GameEventListener)
+	 * 
+	 * @throws NullPointerException     if the listener argument is null
+	 * @throws IllegalArgumentException if the key is {@link GameEvent#NO_KEY}
+	 */
+	public void registerWeakEventListener(GameEventListener listener, long key) {
+		if (Objects.isNull(listener)) throw new NullPointerException("Cannot register NULL EventListener");
+		if (key == GameEvent.NO_KEY) throw new IllegalArgumentException("The key " + key + " is reserved for events which are not keyed");
+		this.register(listener, key, true);
+	}
+
+	/**
+	 * Registers the event methods of the given {@code listener} under the given
+	 * {@code key}.
+	 * 
+	 * @param listener the listener to be registered
+	 * @param key      the key of the events to listen for, or
+	 *                 {@link GameEvent#NO_KEY} for every event
+	 * @param weak     true if the listener is weakly registered
+	 */
+	private void register(GameEventListener listener, long key, boolean weak) {
+		WeakListener reference = null;
+		Array<EventExecutor> registered;
+		if (weak) {
+			reference = new WeakListener(listener, this.collected);
+			reference.index = this.weakListeners.size;
+			reference.next = this.weakIndex.get(reference.hash);
+			this.weakListeners.add(reference);
+			this.weakIndex.put(reference.hash, reference);
+			registered = reference.executors;
+		} else {
+			registered = this.registrations.get(listener);
+			if (Objects.isNull(registered)) {
+				registered = new Array<>(false, 4, EventExecutor.class);
+				this.registrations.put(listener, registered);
+			}
+		}
+
+		final GameEventDispatcher dispatcher = GameEventDispatchers.get(listener.getClass());
+		if (Objects.nonNull(dispatcher)) {
+			for (int index = 0; index < dispatcher.getMethodCount(); index++) {
+				this.addExecutor(registered, new EventExecutor(listener, reference, dispatcher.getMethodName(index), dispatcher.getEventType(index), dispatcher.getInvoker(index), dispatcher.getPriority(index), this.registrationCount++, key));
+			}
+			return;
+		}
 
 		for (Method method : listener.getClass().getMethods()) {
 			if (method.getParameterTypes().length != 1) continue;
 			if (!method.isAnnotationPresent(GameEventMethod.class)) continue;
+			final Class<?> eventType = method.getParameterTypes()[0];
+			if (!GameEvent.class.isAssignableFrom(eventType) && !eventType.isInterface()) continue; // the method can never receive an event
 			method.setAccessible(true);
-			this.eventExecutors.add(new EventExecutor(listener, method));
+
+			final int priority = method.getAnnotation(GameEventMethod.class).priority();
+			this.addExecutor(registered, new EventExecutor(listener, reference, method.getName(), eventType, EventInvokers.get(method), priority, this.registrationCount++, key));
 		}
 	}
 
+	/**
+	 * Adds the given {@code executor} to the executors of its event type, in the
+	 * position it is called in, and to the given {@code registered} executors of
+	 * its listener.
+	 * 
+	 * @param registered the executors registered for the listener
+	 * @param executor   the executor to add
+	 */
+	private void addExecutor(Array<EventExecutor> registered, EventExecutor executor) {
+		registered.add(executor);
+
+		if (executor.key != GameEvent.NO_KEY) {
+			this.addKeyedExecutor(executor);
+			return;
+		}
+
+		Array<EventExecutor> executors = this.eventExecutors.get(executor.eventType);
+		if (Objects.isNull(executors)) {
+			executors = new Array<>(true, 4, EventExecutor.class);
+			this.eventExecutors.put(executor.eventType, executors);
+		}
+		int index = executors.size;
+		while (index > 0 && executor.precedes(executors.get(index - 1))) {
+			index--;
+		}
+		executors.insert(index, executor);
+		this.invalidate(executor.eventType);
+	}
+
+	/**
+	 * Adds the given keyed {@code executor} to the executors of its key, in the
+	 * position it is called in. The array of the key is replaced, so an event
+	 * being called with the key is not affected.
+	 * 
+	 * @param executor the executor to add
+	 */
+	private void addKeyedExecutor(EventExecutor executor) {
+		final EventExecutor[] executors = this.keyedExecutors.get(executor.key, NO_EXECUTORS);
+		int index = executors.length;
+		while (index > 0 && executor.precedes(executors[index - 1])) {
+			index--;
+		}
+		final EventExecutor[] added = new EventExecutor[executors.length + 1];
+		System.arraycopy(executors, 0, added, 0, index);
+		System.arraycopy(executors, index, added, index + 1, executors.length - index);
+		added[index] = executor;
+		this.keyedExecutors.put(executor.key, added);
+	}
+
+	/**
+	 * Removes the executors flagged as removed from the executors of the given
+	 * {@code key}. The array of the key is replaced, so an event being called with
+	 * the key is not affected.
+	 * 
+	 * @param key the key to remove the executors of
+	 */
+	private void removeKeyedExecutors(long key) {
+		final EventExecutor[] executors = this.keyedExecutors.get(key);
+		if (Objects.isNull(executors)) return;
+
+		int kept = 0;
+		for (EventExecutor executor : executors) {
+			if (!executor.removed) kept++;
+		}
+		if (kept == executors.length) return;
+		if (kept == 0) {
+			this.keyedExecutors.remove(key);
+			return;
+		}
+
+		final EventExecutor[] removed = new EventExecutor[kept];
+		kept = 0;
+		for (EventExecutor executor : executors) {
+			if (!executor.removed) removed[kept++] = executor;
+		}
+		this.keyedExecutors.put(key, removed);
+	}
+
 	/**
 	 * Unregisters the specified {@code listener} from this {@code EventManager} if
 	 * it is existing, so it cannot listen for any events.
@@ -122,18 +547,188 @@ public class GameEventManager {
 	 * 
 	 * @throws NullPointerException if the listener argument is null
 	 */
-	@SuppressWarnings("unlikely-arg-type")
 	public void unregisterEventListener(GameEventListener listener) {
 		if (listener == null) throw new NullPointerException("Cannot unregister NULL EventListener");
 
-		for (int index = 0; index < this.eventExecutors.size; index++) {
-			EventExecutor executor = this.eventExecutors.get(index);
-			if (Objects.isNull(executor)) continue;
-			if (executor.equals(listener)) {
-				this.eventExecutors.set(index, null);
+		final Array<EventExecutor> registered = this.registrations.remove(listener);
+		if (Objects.nonNull(registered)) this.removeExecutors(registered);
+
+		WeakListener reference = this.weakIndex.get(System.identityHashCode(listener));
+		while (Objects.nonNull(reference)) {
+			final WeakListener next = reference.next;
+			if (reference.get() == listener) {
+				reference.clear();
+				this.removeWeakListener(reference);
 			}
+			reference = next;
 		}
+	}
+
+	/**
+	 * Flags every executor within the given {@code registered} executors of a
+	 * listener as removed, and drops every array they were called from.
+	 * 
+	 * @param registered the executors registered for the listener
+	 */
+	private void removeExecutors(Array<EventExecutor> registered) {
+		for (int index = 0; index < registered.size; index++) {
+			final EventExecutor executor = registered.get(index);
+			executor.removed = true;
+			if (executor.key != GameEvent.NO_KEY) continue;
 
+			if (this.uncompactedTypes.add(executor.eventType)) this.uncompacted.addLast(executor.eventType);
+			this.invalidate(executor.eventType);
+		}
+		for (int index = 0; index < registered.size; index++) {
+			final long key = registered.get(index).key;
+			if (key != GameEvent.NO_KEY) this.removeKeyedExecutors(key);
+		}
+	}
+
+	/**
+	 * Removes the given {@code reference} from the weakly registered listeners,
+	 * and flags its executors as removed.
+	 * 
+	 * @param reference the reference to the listener
+	 */
+	private void removeWeakListener(WeakListener reference) {
+		final int index = reference.index;
+		if (index < 0) return; // already removed
+
+		this.weakListeners.removeIndex(index); // the last reference is moved into the index
+		if (index < this.weakListeners.size) this.weakListeners.get(index).index = index;
+		reference.index = -1;
+
+		final WeakListener head = this.weakIndex.get(reference.hash);
+		if (head == reference) {
+			if (Objects.isNull(reference.next)) this.weakIndex.remove(reference.hash);
+			else this.weakIndex.put(reference.hash, reference.next);
+		} else {
+			WeakListener previous = head;
+			while (previous.next != reference) {
+				previous = previous.next;
+			}
+			previous.next = reference.next;
+		}
+		reference.next = null;
+		this.removeExecutors(reference.executors);
+	}
+
+	/**
+	 * Purges the weakly registered listeners which have been collected, up to the
+	 * purge limit of this manager.
+	 */
+	private void purge() {
+		for (int purged = 0; purged < this.purgeLimit; purged++) {
+			final WeakListener reference = (WeakListener) this.collected.poll();
+			if (Objects.isNull(reference)) return;
+			if (reference.index < 0) continue; // unregistered before it was collected
+
+			this.removeWeakListener(reference);
+			this.leakedCount++;
+		}
+	}
+
+	/**
+	 * Sets the maximum amount of collected listeners purged every time this
+	 * {@code EventManager} is updated. Listeners left over are purged by the
+	 * following updates.
+	 * 
+	 * @param purgeLimit the purge limit, which must be positive
+	 * @throws IllegalArgumentException if the purge limit is not positive
+	 */
+	public void setPurgeLimit(int purgeLimit) {
+		if (purgeLimit <= 0) throw new IllegalArgumentException("The purge limit must be positive");
+		this.purgeLimit = purgeLimit;
+	}
+
+	/**
+	 * Returns the maximum amount of collected listeners purged every time this
+	 * {@code EventManager} is updated.
+	 * 
+	 * @return the purge limit
+	 */
+	public int getPurgeLimit() {
+		return purgeLimit;
+	}
+
+	/**
+	 * Returns the amount of weakly registered listeners which were collected
+	 * without being unregistered, and have been purged from this
+	 * {@code EventManager}.
+	 * 
+	 * @return the amount of leaked listeners
+	 */
+	public long getLeakedListenerCount() {
+		return leakedCount;
+	}
+
+	/**
+	 * Returns the amount of listeners weakly registered to this
+	 * {@code EventManager}, including those collected but not yet purged.
+	 * 
+	 * @return the amount of weak listeners
+	 */
+	public int getWeakListenerCount() {
+		return this.weakListeners.size;
+	}
+
+	/**
+	 * Removes the event methods of unregistered listeners from the stored arrays
+	 * of the event types they were flagged within, keeping the order of the
+	 * methods left. At most the compact limit of arrays are compacted, and the
+	 * arrays left over are compacted by the following updates. Cached arrays are
+	 * not touched, since they are gathered without any removed method.
+	 */
+	private void compact() {
+		for (int compacted = 0; compacted < this.compactLimit && this.uncompacted.size > 0; compacted++) {
+			final Class<?> eventType = this.uncompacted.removeFirst();
+			this.uncompactedTypes.remove(eventType);
+
+			final Array<EventExecutor> executors = this.eventExecutors.get(eventType);
+			if (Objects.isNull(executors)) continue;
+
+			final EventExecutor[] items = executors.items;
+			int kept = 0;
+			for (int index = 0; index < executors.size; index++) {
+				if (!items[index].removed) items[kept++] = items[index];
+			}
+			executors.truncate(kept);
+			if (kept == 0) this.eventExecutors.remove(eventType);
+		}
+	}
+
+	/**
+	 * Sets the maximum amount of stored arrays of event methods compacted every
+	 * time this {@code EventManager} is updated. Arrays left over are compacted by
+	 * the following updates.
+	 * 
+	 * @param compactLimit the compact limit, which must be positive
+	 * @throws IllegalArgumentException if the compact limit is not positive
+	 */
+	public void setCompactLimit(int compactLimit) {
+		if (compactLimit <= 0) throw new IllegalArgumentException("The compact limit must be positive");
+		this.compactLimit = compactLimit;
+	}
+
+	/**
+	 * Returns the maximum amount of stored arrays of event methods compacted every
+	 * time this {@code EventManager} is updated.
+	 * 
+	 * @return the compact limit
+	 */
+	public int getCompactLimit() {
+		return compactLimit;
+	}
+
+	/**
+	 * Returns the amount of stored arrays of event methods holding the methods of
+	 * unregistered listeners, waiting to be compacted.
+	 * 
+	 * @return the amount of uncompacted arrays
+	 */
+	public int getUncompactedCount() {
+		return this.uncompacted.size;
 	}
 
 	/**
@@ -150,11 +745,360 @@ public class GameEventManager {
 	public void callEvent(GameEvent event) {
 		Objects.requireNonNull(event, "Cannot call a NULL Event");
 
-		for (int index = 0; index < this.eventExecutors.size; index++) {
-			EventExecutor executor = this.eventExecutors.get(index);
-			if (event.isCancelled()) continue;
-			executor.execute(event);
+		final GameEventJournal journal = this.journal;
+		if (Objects.nonNull(journal) && !this.journaling) {
+			final RuntimeException failure = journal.record(event);
+			this.journaling = true;
+			try {
+				this.call(event);
+			} finally {
+				this.journaling = false;
+			}
+			if (Objects.nonNull(failure)) { // logged once the event has been called, so journaling never keeps an event from its listeners
+				error("Event Journal", "The " + event.getClass().getName() + " could not be journaled", failure);
+			}
+			return;
+		}
+		this.call(event);
+	}
+
+	/**
+	 * Logs the given {@code throwable} through the application, or prints it to
+	 * the standard error stream if there is no application.
+	 * 
+	 * @param tag       the tag to log under
+	 * @param message   the message to log
+	 * @param throwable the throwable to log
+	 */
+	static void error(String tag, String message, Throwable throwable) {
+		if (Objects.nonNull(Gdx.app)) {
+			Gdx.app.error(tag, message, throwable);
+			return;
+		}
+		System.err.println("[" + tag + "] " + message);
+		throwable.printStackTrace();
+	}
+
+	/**
+	 * Calls the given {@code event}, recording the call within the metrics of this
+	 * manager if they are enabled.
+	 * 
+	 * @param event the event to call
+	 */
+	private void call(GameEvent event) {
+		final GameEventMetrics metrics = this.metrics;
+		if (Objects.isNull(metrics)) {
+			this.dispatch(event, null);
+			return;
+		}
+
+		final GameEventMetrics.Stat eventStat = metrics.getEventStat(event.getClass());
+		final long start = System.nanoTime();
+		this.dispatch(event, eventStat);
+		metrics.recordEvent(eventStat, System.nanoTime() - start);
+	}
+
+	/**
+	 * Calls the event methods relevant to the given {@code event}, in the order
+	 * they are called.
+	 * 
+	 * @param event     the event to call
+	 * @param eventStat the metrics stat of the class of the event, or null if
+	 *                  metrics are disabled
+	 */
+	private void dispatch(GameEvent event, GameEventMetrics.Stat eventStat) {
+		final EventExecutor[] executors = this.getExecutors(event.getClass());
+		final long key = event.getKey();
+		if (key != GameEvent.NO_KEY) {
+			final EventExecutor[] keyed = this.keyedExecutors.get(key);
+			if (Objects.nonNull(keyed)) {
+				this.callKeyed(event, executors, keyed, eventStat);
+				return;
+			}
+		}
+
+		for (int index = 0; index < executors.length; index++) {
+			if (event.isCancelled()) break;
+			final EventExecutor executor = executors[index];
+			if (executor.removed) continue; // unregistered by an earlier method of this call
+			if (Objects.isNull(eventStat)) executor.execute(event);
+			else this.measure(executor, event, eventStat);
 			if (event.isConsumed()) break;
 		}
 	}
+
+	/**
+	 * Executes the given {@code executor}, recording the time it took within the
+	 * metrics the given {@code eventStat} belongs to.
+	 * 
+	 * @param executor  the executor to execute
+	 * @param event     the event to execute
+	 * @param eventStat the metrics stat of the class of the event
+	 */
+	private void measure(EventExecutor executor, GameEvent event, GameEventMetrics.Stat eventStat) {
+		final GameEventMetrics metrics = eventStat.metrics;
+		GameEventMetrics.Stat stat = executor.stat;
+		if (Objects.isNull(stat) || stat.metrics != metrics) {
+			stat = executor.stat = metrics.getMethodStat(executor.listenerClass, executor.methodName, executor.eventType);
+		}
+
+		final long start = System.nanoTime();
+		final boolean failed = executor.execute(event);
+		metrics.recordMethod(stat, eventStat, System.nanoTime() - start, failed);
+	}
+
+	/**
+	 * Calls the given {@code event} through both the given {@code executors}
+	 * relevant to its class and the {@code keyed} executors of its key, merging
+	 * the two arrays so every method is called in priority order. Keyed executors
+	 * listening for an unrelated class of event are skipped.
+	 * 
+	 * @param event     the event to call
+	 * @param executors the executors relevant to the class of the event
+	 * @param keyed     the executors registered under the key of the event
+	 * @param eventStat the metrics stat of the class of the event, or null if
+	 *                  metrics are disabled
+	 */
+	private void callKeyed(GameEvent event, EventExecutor[] executors, EventExecutor[] keyed, GameEventMetrics.Stat eventStat) {
+		final Class<?> eventClass = event.getClass();
+		int index = 0, keyedIndex = 0;
+		while (!event.isCancelled()) {
+			while (keyedIndex < keyed.length && !keyed[keyedIndex].eventType.isAssignableFrom(eventClass)) {
+				keyedIndex++;
+			}
+
+			final EventExecutor executor;
+			if (index < executors.length && (keyedIndex == keyed.length || executors[index].precedes(keyed[keyedIndex]))) {
+				executor = executors[index++];
+			} else if (keyedIndex < keyed.length) {
+				executor = keyed[keyedIndex++];
+			} else {
+				break;
+			}
+			if (executor.removed) continue; // unregistered by an earlier method of this call
+			if (Objects.isNull(eventStat)) executor.execute(event);
+			else this.measure(executor, event, eventStat);
+			if (event.isConsumed()) break;
+		}
+	}
+
+	/**
+	 * Obtains an event of the given {@code type} from the pool of its class. The
+	 * event must be given back through {@link #callAndFree(GameEvent)} or
+	 * {@link #freeEvent(GameEvent)} once it is no longer used. This method must
+	 * only be called from the game thread.
+	 * 
+	 * @param type the class of the event, which must have a public constructor
+	 *             without any arguments
+	 * @return a reset event of the given type
+	 */
+	public <T extends GameEvent> T obtainEvent(Class<T> type) {
+		return Pools.obtain(type);
+	}
+
+	/**
+	 * Calls the specified {@code event} and frees it back into the pool of its
+	 * class. Since the event cannot be used once it has been freed, whether it was
+	 * cancelled is returned instead.
+	 * 
+	 * @param event the event to be called and freed
+	 * @return true if the event was not cancelled; return false otherwise
+	 * 
+	 * @see #obtainEvent(Class)
+	 * 
+	 * @throws NullPointerException if the event argument is null
+	 */
+	public boolean callAndFree(GameEvent event) {
+		try {
+			this.callEvent(event);
+			return !event.isCancelled();
+		} finally {
+			Pools.free(event);
+		}
+	}
+
+	/**
+	 * Frees the specified {@code event} back into the pool of its class without
+	 * calling it.
+	 * 
+	 * @param event the event to be freed
+	 * 
+	 * @see #obtainEvent(Class)
+	 */
+	public void freeEvent(GameEvent event) {
+		Pools.free(event);
+	}
+
+	/**
+	 * Posts the specified {@code event} to be called on the game thread the next
+	 * time this {@code EventManager} is updated. This method can be called from any
+	 * thread, and never blocks or allocates. If too many events are waiting to be
+	 * called, then the event is dropped and counted as an overflow.
+	 * 
+	 * @param event the event to be posted
+	 * @return true if posted; return false if the event was dropped
+	 * 
+	 * @throws NullPointerException if the event argument is null
+	 */
+	public boolean postEvent(GameEvent event) {
+		Objects.requireNonNull(event, "Cannot post a NULL Event");
+		return this.postQueue.offer(event);
+	}
+
+	/**
+	 * Coalesces the specified {@code event}, to be called once this
+	 * {@code EventManager} is next updated. If an event of the same class with an
+	 * equal coalescing key is already waiting, then it is replaced by this event
+	 * and never called. This method must only be called from the game thread.
+	 * 
+	 * <p>
+	 * A replaced event is only dropped, so events which are coalesced should not
+	 * be obtained from their pool.
+	 * 
+	 * @param event the event to be coalesced
+	 * @return true if a waiting event was replaced; return false otherwise
+	 * 
+	 * @see game.library.event.GameEvent#getCoalescingKey()
+	 * 
+	 * @throws NullPointerException if the event argument is null
+	 */
+	public boolean coalesceEvent(GameEvent event) {
+		Objects.requireNonNull(event, "Cannot coalesce a NULL Event");
+		return this.coalescer.offer(event);
+	}
+
+	/**
+	 * Updates this {@code EventManager}, calling the events which have been posted
+	 * since the last update, and then the events which have been coalesced. The
+	 * event methods of listeners unregistered since the last update are then
+	 * compacted out of the arrays they were flagged within, up to the compact
+	 * limit of this manager. This method is called once every frame by the application
+	 * listener, after the simulation has been stepped.
+	 */
+	public void update() {
+		this.postQueue.drain(this);
+		this.coalescer.flush(this);
+		this.purge();
+		if (this.uncompacted.size > 0) this.compact();
+		if (Objects.nonNull(this.journal)) this.journal.nextFrame();
+	}
+
+	/**
+	 * Returns the queue of events posted to this {@code EventManager}. The queue
+	 * holds the limit of posted events called every update, and the counters of
+	 * posted and overflowed events.
+	 * 
+	 * @return the queue of posted events
+	 */
+	public GameEventQueue getPostQueue() {
+		return this.postQueue;
+	}
+
+	/**
+	 * Returns the coalescer of this {@code EventManager}, holding the events
+	 * waiting to be called at the end of the frame and the counters of collapsed
+	 * events.
+	 * 
+	 * @return the coalescer of events
+	 */
+	public GameEventCoalescer getCoalescer() {
+		return this.coalescer;
+	}
+
+	/**
+	 * Enables or disables the metrics of this {@code EventManager}. While enabled,
+	 * every call of an event and of its event methods is timed and counted within
+	 * the {@code GameEventMetrics} of this manager. Disabling the metrics discards
+	 * them and everything they have recorded.
+	 * 
+	 * @param enabled true to enable the metrics
+	 */
+	public void setMetricsEnabled(boolean enabled) {
+		if (enabled && Objects.isNull(this.metrics)) {
+			this.metrics = new GameEventMetrics();
+		} else if (!enabled) {
+			this.metrics = null;
+		}
+	}
+
+	/**
+	 * Returns the {@code GameEventMetrics} of this {@code EventManager}.
+	 * 
+	 * @return the metrics; return null if the metrics are disabled
+	 */
+	public GameEventMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Sets the journal recording the events called through this
+	 * {@code EventManager}. Every event called from outside of an event method is
+	 * written into the journal, and the journal advances to its next frame every
+	 * time this manager is updated. The journal is not closed by this manager.
+	 * 
+	 * @param journal the journal to record into, or null to stop journaling
+	 */
+	public void setJournal(GameEventJournal journal) {
+		this.journal = journal;
+	}
+
+	/**
+	 * Returns the journal recording the events called through this
+	 * {@code EventManager}.
+	 * 
+	 * @return the journal; return null if events are not being journaled
+	 */
+	public GameEventJournal getJournal() {
+		return this.journal;
+	}
+
+	/**
+	 * Returns the event methods relevant to the given {@code eventClass}, in the
+	 * order they are called. The array is gathered the first time the event
+	 * class is called and cached until a relevant listener is registered or
+	 * unregistered.
+	 * 
+	 * @param eventClass the class of the event
+	 * @return the relevant event methods
+	 */
+	private EventExecutor[] getExecutors(Class<?> eventClass) {
+		EventExecutor[] executors = this.dispatchCache.get(eventClass);
+		if (Objects.nonNull(executors)) return executors;
+
+		this.gathered.clear();
+		for (ObjectMap.Entry<Class<?>, Array<EventExecutor>> entry : this.eventExecutors.entries()) {
+			if (!entry.key.isAssignableFrom(eventClass)) continue;
+
+			final Array<EventExecutor> stored = entry.value;
+			for (int index = 0; index < stored.size; index++) {
+				if (!stored.items[index].removed) this.gathered.add(stored.items[index]);
+			}
+		}
+		if (this.gathered.size == 0) {
+			executors = NO_EXECUTORS;
+		} else {
+			this.gathered.sort(CALL_ORDER);
+			executors = Arrays.copyOf(this.gathered.items, this.gathered.size);
+		}
+		this.gathered.clear();
+		this.dispatchCache.put(eventClass, executors);
+		return executors;
+	}
+
+	/**
+	 * Drops the cached array of every event class the given {@code eventType} is
+	 * relevant to, so the array is gathered again the next time it is called.
+	 * 
+	 * @param eventType the type of event a method was registered or unregistered
+	 *                  for
+	 */
+	private void invalidate(Class<?> eventType) {
+		for (Class<?> eventClass : this.dispatchCache.keys()) {
+			if (eventType.isAssignableFrom(eventClass)) this.invalidated.add(eventClass);
+		}
+		for (int index = 0; index < this.invalidated.size; index++) {
+			this.dispatchCache.remove(this.invalidated.get(index));
+		}
+		this.invalidated.clear();
+	}
 }
@@ -10,6 +10,12 @@ import java.lang.annotation.Target;
  * with this annotation is a method used to listen for the given event within
  * the parameter of the method.
  * 
+ * <p>
+ * The priority of the method decides the order methods listening for the same
+ * event are called in. Methods with a higher priority are called first, so they
+ * can consume or cancel the event before the others receive it, and methods of
+ * the same priority are called in the order they were registered.
+ * 
  * @author Albert Beaupre
  * 
  * @see game.library.event.GameEventListener
@@ -19,4 +25,12 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface GameEventMethod {
 
+	/**
+	 * Returns the priority of this event method. Methods with a higher priority
+	 * are called before methods with a lower priority.
+	 * 
+	 * @return the priority, 0 by default
+	 */
+	int priority() default 0;
+
 }
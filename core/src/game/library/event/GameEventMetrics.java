@@ -0,0 +1,335 @@
+package game.library.event;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class records how often events are called and how long calling them
+ * takes. Every class of event keeps the amount of times it was called, the
+ * total and maximum time its calls took, and the amount of exceptions thrown by
+ * its event methods. Every event method keeps the same for itself, where the
+ * methods of every listener of the same class are recorded together.
+ *
+ * <p>
+ * Event methods taking longer than the slow threshold are logged as they
+ * happen. A {@code GameEventManager} only creates its metrics once they have
+ * been enabled through {@link GameEventManager#setMetricsEnabled(boolean)}, and
+ * a manager without metrics does not time any event.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.event.GameEventManager#getMetrics()
+ */
+public class GameEventMetrics {
+
+	/**
+	 * Compares the total time of two stats, longest first.
+	 */
+	private static final Comparator<Stat> TOTAL_TIME_ORDER = (first, second) -> Long.compare(second.totalTime, first.totalTime);
+
+	/**
+	 * The recorded calls of a single class of event or event method.
+	 */
+	public static final class Stat {
+
+		final GameEventMetrics metrics; // the metrics this stat belongs to
+		private final String name;
+		private long count; // the amount of calls
+		private long totalTime; // the nanoseconds of every call combined
+		private long maximumTime; // the nanoseconds of the longest call
+		private long exceptionCount; // the amount of exceptions thrown
+		private long slowCount; // the amount of calls taking longer than the slow threshold
+
+		/**
+		 * Constructs a new {@code Stat} with the given name.
+		 *
+		 * @param metrics the metrics this stat belongs to
+		 * @param name    the name of the stat
+		 */
+		private Stat(GameEventMetrics metrics, String name) {
+			this.metrics = metrics;
+			this.name = name;
+		}
+
+		/**
+		 * Records a single call taking the given amount of nanoseconds.
+		 *
+		 * @param nanos the nanoseconds the call took
+		 */
+		private void record(long nanos) {
+			this.count++;
+			this.totalTime += nanos;
+			if (nanos > this.maximumTime) this.maximumTime = nanos;
+		}
+
+		/**
+		 * Clears every recorded call of this stat.
+		 */
+		private void clear() {
+			this.count = 0;
+			this.totalTime = 0;
+			this.maximumTime = 0;
+			this.exceptionCount = 0;
+			this.slowCount = 0;
+		}
+
+		/**
+		 * Returns the name of this stat, which is the name of the event class, or the
+		 * name of the event method along with its listener class and event type.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the amount of times this stat was called.
+		 *
+		 * @return the call count
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds every call of this stat took combined.
+		 *
+		 * @return the total time
+		 */
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds the longest call of this stat took.
+		 *
+		 * @return the maximum time
+		 */
+		public long getMaximumTime() {
+			return maximumTime;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds a call of this stat takes on average.
+		 *
+		 * @return the mean time
+		 */
+		public long getMeanTime() {
+			return this.count == 0 ? 0 : this.totalTime / this.count;
+		}
+
+		/**
+		 * Returns the amount of exceptions thrown by the event methods of this stat.
+		 *
+		 * @return the exception count
+		 */
+		public long getExceptionCount() {
+			return exceptionCount;
+		}
+
+		/**
+		 * Returns the amount of calls of this stat taking longer than the slow
+		 * threshold. Only event methods are counted as slow.
+		 *
+		 * @return the slow call count
+		 */
+		public long getSlowCount() {
+			return slowCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: count=%d, total=%.3fms, mean=%.1fus, max=%.1fus, exceptions=%d, slow=%d", name, count, totalTime / 1e6, getMeanTime() / 1e3, maximumTime / 1e3, exceptionCount, slowCount);
+		}
+	}
+
+	private final ObjectMap<Class<?>, Stat> eventStats; // the stat of every class of event called
+	private final ObjectMap<String, Stat> methodStats; // the stat of every event method called, by its listener class, name and event type
+	private final Array<Stat> sorted; // the reusable array used to sort the stats
+	private long slowThreshold; // the nanoseconds an event method may take before it is logged, 0 for no logging
+
+	/**
+	 * Constructs a new, empty {@code GameEventMetrics}.
+	 */
+	GameEventMetrics() {
+		this.eventStats = new ObjectMap<>();
+		this.methodStats = new ObjectMap<>();
+		this.sorted = new Array<>(false, 16, Stat.class);
+	}
+
+	/**
+	 * Returns the stat of the given class of event, creating it if it does not
+	 * exist.
+	 *
+	 * @param eventClass the class of the event
+	 * @return the stat
+	 */
+	Stat getEventStat(Class<?> eventClass) {
+		Stat stat = this.eventStats.get(eventClass);
+		if (Objects.isNull(stat)) {
+			stat = new Stat(this, eventClass.getName());
+			this.eventStats.put(eventClass, stat);
+		}
+		return stat;
+	}
+
+	/**
+	 * Returns the stat of the event method with the given name, declared within
+	 * the given listener class and listening for the given type of event, creating
+	 * it if it does not exist. Overloaded methods and classes sharing a simple
+	 * name within different packages are kept apart.
+	 *
+	 * @param listenerClass the class of the listener
+	 * @param methodName    the name of the event method
+	 * @param eventType     the type of event the method listens for
+	 * @return the stat
+	 */
+	Stat getMethodStat(Class<?> listenerClass, String methodName, Class<?> eventType) {
+		final String name = listenerClass.getName() + "#" + methodName + "(" + eventType.getName() + ")";
+		Stat stat = this.methodStats.get(name);
+		if (Objects.isNull(stat)) {
+			stat = new Stat(this, name);
+			this.methodStats.put(name, stat);
+		}
+		return stat;
+	}
+
+	/**
+	 * Records a single call of an event taking the given amount of nanoseconds.
+	 *
+	 * @param eventStat the stat of the class of the event
+	 * @param nanos     the nanoseconds the call took
+	 */
+	void recordEvent(Stat eventStat, long nanos) {
+		eventStat.record(nanos);
+	}
+
+	/**
+	 * Records a single call of an event method taking the given amount of
+	 * nanoseconds, and logs the method if it took longer than the slow threshold.
+	 *
+	 * @param methodStat the stat of the event method
+	 * @param eventStat  the stat of the class of the event
+	 * @param nanos      the nanoseconds the call took
+	 * @param failed     true if the method threw an exception
+	 */
+	void recordMethod(Stat methodStat, Stat eventStat, long nanos, boolean failed) {
+		methodStat.record(nanos);
+		if (failed) {
+			methodStat.exceptionCount++;
+			eventStat.exceptionCount++;
+		}
+		if (this.slowThreshold > 0 && nanos > this.slowThreshold) {
+			methodStat.slowCount++;
+			Gdx.app.log("Event Metrics", String.format("%s took %.3fms calling %s", methodStat.name, nanos / 1e6, eventStat.name));
+		}
+	}
+
+	/**
+	 * Returns the stat of the given class of event.
+	 *
+	 * @param eventClass the class of the event
+	 * @return the stat; return null if the event has not been called
+	 */
+	public Stat getStat(Class<? extends GameEvent> eventClass) {
+		return this.eventStats.get(eventClass);
+	}
+
+	/**
+	 * Fills the given {@code out} array with the given amount of event classes
+	 * which have taken the most time, longest first.
+	 *
+	 * @param count the amount of stats to return
+	 * @param out   the array to fill, which is cleared first
+	 * @return the given out array
+	 */
+	public Array<Stat> getTopEvents(int count, Array<Stat> out) {
+		return this.getTop(this.eventStats.values(), count, out);
+	}
+
+	/**
+	 * Fills the given {@code out} array with the given amount of event methods
+	 * which have taken the most time, longest first.
+	 *
+	 * @param count the amount of stats to return
+	 * @param out   the array to fill, which is cleared first
+	 * @return the given out array
+	 */
+	public Array<Stat> getTopMethods(int count, Array<Stat> out) {
+		return this.getTop(this.methodStats.values(), count, out);
+	}
+
+	private Array<Stat> getTop(Iterable<Stat> stats, int count, Array<Stat> out) {
+		this.sorted.clear();
+		for (Stat stat : stats) {
+			this.sorted.add(stat);
+		}
+		this.sorted.sort(TOTAL_TIME_ORDER);
+
+		out.clear();
+		for (int index = 0; index < Math.min(count, this.sorted.size); index++) {
+			out.add(this.sorted.get(index));
+		}
+		this.sorted.clear();
+		return out;
+	}
+
+	/**
+	 * Logs the given amount of event classes and event methods which have taken
+	 * the most time.
+	 *
+	 * @param count the amount of stats of each kind to log
+	 */
+	public void log(int count) {
+		final Array<Stat> logged = new Array<>(false, count, Stat.class);
+		this.getTopEvents(count, logged);
+		Gdx.app.log("Event Metrics", "Top " + logged.size + " of " + this.eventStats.size + " events by total time:");
+		for (int index = 0; index < logged.size; index++) {
+			Gdx.app.log("Event Metrics", logged.get(index).toString());
+		}
+
+		this.getTopMethods(count, logged);
+		Gdx.app.log("Event Metrics", "Top " + logged.size + " of " + this.methodStats.size + " event methods by total time:");
+		for (int index = 0; index < logged.size; index++) {
+			Gdx.app.log("Event Metrics", logged.get(index).toString());
+		}
+	}
+
+	/**
+	 * Sets the amount of nanoseconds an event method may take before it is logged
+	 * as slow. A threshold of 0 or less stops the logging.
+	 *
+	 * @param nanos the slow threshold
+	 */
+	public void setSlowThreshold(long nanos) {
+		this.slowThreshold = nanos;
+	}
+
+	/**
+	 * Returns the amount of nanoseconds an event method may take before it is
+	 * logged as slow.
+	 *
+	 * @return the slow threshold; return 0 or less if slow methods are not logged
+	 */
+	public long getSlowThreshold() {
+		return slowThreshold;
+	}
+
+	/**
+	 * Clears the recorded calls of every stat of these metrics.
+	 */
+	public void clear() {
+		for (Stat stat : this.eventStats.values()) {
+			stat.clear();
+		}
+		for (Stat stat : this.methodStats.values()) {
+			stat.clear();
+		}
+	}
+
+}
@@ -0,0 +1,204 @@
+package game.library.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * This class is a bounded, lock-free queue of events posted to the
+ * {@code GameEventManager} from any thread. Any amount of threads can post
+ * events at once, while the events are only ever taken out of the queue by the
+ * game thread, which calls them when the manager is updated.
+ *
+ * <p>
+ * The queue is a ring buffer where every slot carries a sequence number. A
+ * posting thread claims a slot by advancing the tail of the queue with a single
+ * compare-and-set, writes its event into the slot, and then publishes the slot
+ * by advancing its sequence. No lock is taken and nothing is allocated. Once the
+ * queue is full, posting fails straight away rather than waiting, and the
+ * failure is counted as an overflow.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.event.GameEventManager#postEvent(GameEvent)
+ */
+public final class GameEventQueue {
+
+	private final AtomicReferenceArray<GameEvent> events; // the events within every slot
+	private final AtomicLongArray sequences; // the sequence of every slot, telling whether it is free or published
+	private final int mask; // the mask used to find the slot of a position
+	private final AtomicLong tail; // the position the next posted event is written at
+	private final AtomicLong overflowCount; // the amount of events which could not be posted since the queue was full
+	private volatile long head; // the position the next event is taken from, only written by the game thread
+
+	private int drainLimit; // the maximum amount of events called every update, 0 for no limit
+	private int lastDrainCount; // the amount of events called by the last update
+	private long saturatedCount; // the amount of updates which left events within the queue due to the drain limit
+
+	/**
+	 * Constructs a new {@code GameEventQueue} holding at least the given amount of
+	 * events. The capacity is rounded up to a power of two.
+	 *
+	 * @param capacity the minimum capacity
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	GameEventQueue(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("The capacity of a GameEventQueue must be positive");
+
+		final int size = MathUtils.nextPowerOfTwo(capacity);
+		this.events = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		this.tail = new AtomicLong();
+		this.overflowCount = new AtomicLong();
+		for (int index = 0; index < size; index++) {
+			this.sequences.set(index, index); // every slot starts free for the first lap
+		}
+	}
+
+	/**
+	 * Posts the given {@code event} into this queue. This method can be called from
+	 * any thread.
+	 *
+	 * @param event the event to post
+	 * @return true if posted; return false if the queue is full
+	 */
+	boolean offer(GameEvent event) {
+		long position = this.tail.get();
+		while (true) {
+			final int slot = (int) position & this.mask;
+			final long difference = this.sequences.get(slot) - position;
+			if (difference == 0) {
+				if (this.tail.compareAndSet(position, position + 1)) {
+					this.events.lazySet(slot, event);
+					this.sequences.lazySet(slot, position + 1); // publishes the event to the game thread
+					return true;
+				}
+				position = this.tail.get();
+			} else if (difference < 0) { // the slot has not been taken since the last lap, so the queue is full
+				this.overflowCount.incrementAndGet();
+				return false;
+			} else { // another thread claimed the slot first
+				position = this.tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Takes the oldest published event out of this queue. This method must only be
+	 * called from the game thread.
+	 *
+	 * @return the event; return null if no event has been published
+	 */
+	GameEvent poll() {
+		final long position = this.head;
+		final int slot = (int) position & this.mask;
+		if (this.sequences.get(slot) != position + 1) return null;
+
+		final GameEvent event = this.events.get(slot);
+		this.events.lazySet(slot, null);
+		this.sequences.lazySet(slot, position + this.mask + 1); // frees the slot for the next lap
+		this.head = position + 1;
+		return event;
+	}
+
+	/**
+	 * Calls the events posted into this queue through the given {@code manager},
+	 * in the order they were posted, until the drain limit has been reached. This
+	 * method must only be called from the game thread.
+	 *
+	 * @param manager the manager to call the events through
+	 * @return the amount of events called
+	 */
+	int drain(GameEventManager manager) {
+		final int limit = this.drainLimit > 0 ? this.drainLimit : Integer.MAX_VALUE;
+		int count = 0;
+		GameEvent event;
+		while (count < limit && (event = this.poll()) != null) {
+			count++;
+			manager.callEvent(event);
+		}
+		if (count == limit && this.size() > 0) this.saturatedCount++;
+		this.lastDrainCount = count;
+		return count;
+	}
+
+	/**
+	 * Sets the maximum amount of posted events called every update. The events
+	 * left over are called on the following updates.
+	 *
+	 * @param drainLimit the drain limit, 0 or less for no limit
+	 */
+	public void setDrainLimit(int drainLimit) {
+		this.drainLimit = drainLimit;
+	}
+
+	/**
+	 * Returns the maximum amount of posted events called every update.
+	 *
+	 * @return the drain limit; return 0 or less if there is no limit
+	 */
+	public int getDrainLimit() {
+		return drainLimit;
+	}
+
+	/**
+	 * Returns the amount of events this queue can hold.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Returns the amount of events waiting to be called. Posting threads can use
+	 * this to slow down before the queue is full.
+	 *
+	 * @return the amount of waiting events
+	 */
+	public int size() {
+		return (int) Math.max(0, this.tail.get() - this.head);
+	}
+
+	/**
+	 * Returns the amount of events posted into this queue.
+	 *
+	 * @return the amount of posted events
+	 */
+	public long getPostedCount() {
+		return this.tail.get();
+	}
+
+	/**
+	 * Returns the amount of events which could not be posted since this queue was
+	 * full.
+	 *
+	 * @return the amount of overflowed events
+	 */
+	public long getOverflowCount() {
+		return this.overflowCount.get();
+	}
+
+	/**
+	 * Returns the amount of posted events called by the last update.
+	 *
+	 * @return the amount of events called by the last update
+	 */
+	public int getLastDrainCount() {
+		return lastDrainCount;
+	}
+
+	/**
+	 * Returns the amount of updates which reached the drain limit and left events
+	 * waiting within this queue.
+	 *
+	 * @return the amount of saturated updates
+	 */
+	public long getSaturatedCount() {
+		return saturatedCount;
+	}
+
+}
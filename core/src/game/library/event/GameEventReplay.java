@@ -0,0 +1,138 @@
+package game.library.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class replays a journal written by a {@code GameEventJournal}, calling
+ * every journaled event through a {@code GameEventManager} in the frame it was
+ * recorded in. The replay is driven by calling {@link #update(GameEventManager)}
+ * once every frame, at the point of the frame the events should be called at,
+ * which calls the events of the current frame in the order they were recorded
+ * and then advances to the next frame.
+ *
+ * <p>
+ * The journal file is mapped as a whole and read in place. Every event is read
+ * by the codec it was written by, and is freed into the pool of its class once
+ * it has been called.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.event.GameEventJournal
+ */
+public final class GameEventReplay implements Closeable {
+
+	private final FileChannel channel;
+	private final GameEventCodecRegistry codecs;
+	private final MappedByteBuffer buffer; // the mapped journal, positioned at the next record
+	private int frame; // the frame being replayed
+	private long replayedCount; // the amount of events replayed
+	private boolean finished; // the flag of a replay which has reached the end of its journal
+
+	/**
+	 * Constructs a new {@code GameEventReplay} reading the journal at the given
+	 * {@code path}.
+	 *
+	 * @param path   the path of the journal file
+	 * @param codecs the registry of codecs reading the events, holding the same
+	 *               identifiers as the registry the journal was written with
+	 * @throws IOException              if the file cannot be opened or mapped
+	 * @throws IllegalArgumentException if the file does not hold a journal
+	 */
+	public GameEventReplay(Path path, GameEventCodecRegistry codecs) throws IOException {
+		this.codecs = Objects.requireNonNull(codecs, "The GameEventCodecRegistry cannot be NULL");
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			final long size = this.channel.size();
+			if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("A GameEventJournal larger than " + Integer.MAX_VALUE + " bytes cannot be replayed");
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			if (this.buffer.remaining() < GameEventJournal.HEADER_SIZE || this.buffer.getInt() != GameEventJournal.MAGIC) throw new IllegalArgumentException("The file does not hold a GameEventJournal");
+
+			final byte version = this.buffer.get();
+			if (version != GameEventJournal.VERSION) throw new IllegalArgumentException("The GameEventJournal version " + version + " is not supported");
+		} catch (IOException | RuntimeException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Calls every event recorded within the current frame through the given
+	 * {@code manager}, and advances this replay to the next frame.
+	 *
+	 * @param manager the manager to call the events through
+	 * @return the amount of events called
+	 * @throws IllegalStateException if an event was written by a codec which is
+	 *                               not registered
+	 */
+	public int update(GameEventManager manager) {
+		int count = 0;
+		while (!this.finished) {
+			final int position = this.buffer.position();
+			if (this.buffer.remaining() < GameEventJournal.RECORD_HEADER_SIZE || this.buffer.getInt(position + 4) == GameEventCodecRegistry.UNREGISTERED) {
+				this.finished = true; // the zeroed bytes past the last record have been reached
+				break;
+			}
+			if (this.buffer.getInt(position) > this.frame) break;
+
+			final int id = this.buffer.getInt(position + 4);
+			final int end = position + GameEventJournal.RECORD_HEADER_SIZE + this.buffer.getInt(position + 8);
+			final GameEventCodec<?> codec = this.codecs.getCodec(id);
+			if (Objects.isNull(codec)) throw new IllegalStateException("No GameEventCodec is registered under the identifier " + id);
+
+			this.buffer.limit(end).position(position + GameEventJournal.RECORD_HEADER_SIZE);
+			final GameEvent event = codec.read(this.buffer);
+			this.buffer.limit(this.buffer.capacity()).position(end);
+
+			manager.callAndFree(event);
+			this.replayedCount++;
+			count++;
+		}
+		this.frame++;
+		return count;
+	}
+
+	/**
+	 * Returns the frame this replay is at, which is the frame of the events called
+	 * by the next update.
+	 *
+	 * @return the current frame
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	/**
+	 * Returns the amount of events this replay has called.
+	 *
+	 * @return the amount of replayed events
+	 */
+	public long getReplayedCount() {
+		return replayedCount;
+	}
+
+	/**
+	 * Returns true if every event within the journal has been replayed.
+	 *
+	 * @return true if finished; return false otherwise
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * Closes the file of this replay.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+}
@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
+import game.LibraryConstants;
+import game.library.event.GameEventManager;
+
 /**
  * A DropTable is used to hold any {@code LootableItem} for selection based on
  * their own given chances.
@@ -43,11 +46,12 @@ public class DropTable<L extends LootableItem> {
 		this.itemDropFrequency = itemDropFrequency;
 	}
 
+	@SuppressWarnings("unchecked")
 	public <R> Collection<L> selectNextDropItems(R reciever) {
 		Collection<L> selected = selectItems();
-		LootableItemDropEvent<R> event = new LootableItemDropEvent<R>(selected, reciever);
-		event.call();
-		if (event.isCancelled()) return Collections.emptyList();
+		final GameEventManager manager = LibraryConstants.getEventManager();
+		LootableItemDropEvent<R> event = manager.obtainEvent(LootableItemDropEvent.class).set(selected, reciever);
+		if (!manager.callAndFree(event)) return Collections.emptyList();
 		return selected;
 	}
 
@@ -3,6 +3,9 @@ package game.library.loot;
 import java.util.Collection;
 import java.util.Collections;
 
+import game.LibraryConstants;
+import game.library.event.GameEventManager;
+
 /**
  * A DropTableHolder holds a {@code DropTable} for it's own use.
  * 
@@ -20,9 +23,9 @@ public interface DropTableHolder {
 	public default <T extends LootableItem> Collection<T> selectNextDropItems() {
 		DropTable<T> dropTable = this.getDropTable();
 		Collection<T> selected = dropTable.selectItems();
-		LootableDropEvent event = new LootableDropEvent(this, selected);
-		event.call();
-		if (event.isCancelled()) return Collections.emptyList();
+		GameEventManager manager = LibraryConstants.getEventManager();
+		LootableDropEvent event = manager.obtainEvent(LootableDropEvent.class).set(this, selected);
+		if (!manager.callAndFree(event)) return Collections.emptyList();
 		return selected;
 	}
 
@@ -6,12 +6,31 @@ import game.library.event.GameEvent;
 
 public class LootableDropEvent extends GameEvent {
 
-	private final DropTableHolder holder;
-	private final Collection<? extends LootableItem> items;
+	private DropTableHolder holder;
+	private Collection<? extends LootableItem> items;
+
+	/**
+	 * Constructs a new, empty {@code LootableDropEvent}. This is used by the pool
+	 * of this event, which sets its values through
+	 * {@link #set(DropTableHolder, Collection)}.
+	 */
+	public LootableDropEvent() {}
 
 	public LootableDropEvent(DropTableHolder holder, Collection<? extends LootableItem> items) {
+		this.set(holder, items);
+	}
+
+	/**
+	 * Sets the values of this event.
+	 * 
+	 * @param holder the holder the items were dropped by
+	 * @param items  the items dropped
+	 * @return this instance for chaining
+	 */
+	public LootableDropEvent set(DropTableHolder holder, Collection<? extends LootableItem> items) {
 		this.holder = holder;
 		this.items = items;
+		return this;
 	}
 
 	public DropTableHolder getHolder() {
@@ -22,4 +41,11 @@ public class LootableDropEvent extends GameEvent {
 		return items;
 	}
 
+	@Override
+	public void reset() {
+		super.reset();
+		this.holder = null;
+		this.items = null;
+	}
+
 }
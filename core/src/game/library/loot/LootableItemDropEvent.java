@@ -6,12 +6,31 @@ import game.library.event.GameEvent;
 
 public class LootableItemDropEvent<R> extends GameEvent {
 
-	private final Collection<? extends LootableItem> items;
-	private final R reciever;
+	private Collection<? extends LootableItem> items;
+	private R reciever;
+
+	/**
+	 * Constructs a new, empty {@code LootableItemDropEvent}. This is used by the
+	 * pool of this event, which sets its values through
+	 * {@link #set(Collection, Object)}.
+	 */
+	public LootableItemDropEvent() {}
 
 	public LootableItemDropEvent(Collection<? extends LootableItem> items, R reciever) {
+		this.set(items, reciever);
+	}
+
+	/**
+	 * Sets the values of this event.
+	 * 
+	 * @param items    the items dropped
+	 * @param reciever the reciever of the items
+	 * @return this instance for chaining
+	 */
+	public LootableItemDropEvent<R> set(Collection<? extends LootableItem> items, R reciever) {
 		this.items = items;
 		this.reciever = reciever;
+		return this;
 	}
 
 	public Collection<? extends LootableItem> getItems() {
@@ -22,4 +41,11 @@ public class LootableItemDropEvent<R> extends GameEvent {
 		return reciever;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public void reset() {
+		super.reset();
+		this.items = null;
+		this.reciever = null;
+	}
+
+}
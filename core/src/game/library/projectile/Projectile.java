@@ -31,6 +31,8 @@ public class Projectile implements Poolable {
 
 	private ProjectileTracker tracker;
 
+	boolean started; // the flag of a projectile updated and rendered by its pool, cleared once the pool removes it
+
 	/**
 	 * Creates a new {@code Projectile} reusing an object from the
 	 * {@code ProjectilePool}.
@@ -50,6 +52,30 @@ public class Projectile implements Poolable {
 		LibraryConstants.getProjectilePool().addProjectile(this);
 	}
 
+	/**
+	 * Launches this projectile into the {@code ProjectileStore} of the
+	 * {@code ProjectilePool}, which keeps projectiles within packed arrays rather
+	 * than as objects. The state of this projectile is copied into the store, and
+	 * this projectile is freed back into its pool, so it must not be used once it
+	 * has been launched. This should be preferred over {@link #start()} for
+	 * projectiles fired in great numbers.
+	 * 
+	 * <p>
+	 * A projectile which has already been started is still being updated and
+	 * rendered by its pool, so it cannot be launched and is left untouched.
+	 * 
+	 * @return true if launched; return false if this projectile has already been
+	 *         started, or has no direction
+	 */
+	public boolean launch() {
+		if (this.started) return false;
+
+		final ProjectilePool pool = LibraryConstants.getProjectilePool();
+		final boolean added = pool.getStore().add(this);
+		pool.free(this);
+		return added;
+	}
+
 	/**
 	 * Constructs a new {@code Projectile} with no starting or ending location.
 	 * There will also be no sprite rendered until a sprite is set to this
@@ -174,7 +200,11 @@ public class Projectile implements Poolable {
 		}
 
 		this.position.add(direction.x * delta * speed, direction.y * delta * speed);
-		this.bounds.set(this.position.x, this.position.y, this.sprite.getWidth(), this.sprite.getHeight());
+		if (Objects.nonNull(this.sprite)) {
+			this.bounds.set(this.position.x, this.position.y, this.sprite.getWidth(), this.sprite.getHeight());
+		} else {
+			this.bounds.set(this.position.x, this.position.y, 0, 0); // a projectile without a sprite, such as on a headless server, has no size
+		}
 
 		if (distanceLimit > 0) {
 			if (this.beginningLocation.dst(this.position) >= this.distanceLimit) { // check if the projectile's location has past its distance limit, if so, then reset it
@@ -201,9 +231,52 @@ public class Projectile implements Poolable {
 	 */
 	public void reset() {
 		this.sprite = null;
+		this.tracker = null;
 		this.beginningLocation.set(0, 0);
 		this.position.set(0, 0);
 		this.direction.set(0, 0);
+		this.endingLocation.set(0, 0);
+		this.angle = this.speed = this.distanceLimit = 0;
+	}
+
+	Rectangle getBounds() {
+		return bounds;
+	}
+
+	Vector2 getBeginningLocation() {
+		return beginningLocation;
+	}
+
+	Vector2 getPosition() {
+		return position;
+	}
+
+	Vector2 getDirection() {
+		return direction;
+	}
+
+	Vector2 getEndingLocation() {
+		return endingLocation;
+	}
+
+	Sprite getSprite() {
+		return sprite;
+	}
+
+	float getAngle() {
+		return angle;
+	}
+
+	float getSpeed() {
+		return speed;
+	}
+
+	float getDistanceLimit() {
+		return distanceLimit;
+	}
+
+	ProjectileTracker getTracker() {
+		return tracker;
 	}
 
 	private float getAngle(Vector2 start, Vector2 end) {
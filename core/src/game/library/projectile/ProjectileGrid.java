@@ -0,0 +1,300 @@
+package game.library.projectile;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+
+/**
+ * The {@code ProjectileGrid} class is a broadphase answering which projectiles
+ * overlap an area, without testing every projectile against it. Space is split
+ * into square cells, and every cell is hashed into a fixed table of buckets,
+ * so the grid covers an unbounded world. Every projectile is listed within the
+ * buckets of the cells its bounds overlap.
+ *
+ * <p>
+ * The grid is rebuilt from the bounds of every projectile once the
+ * {@code ProjectilePool} it is set to has been updated. Since every projectile
+ * moves every step, the grid is not patched; the buckets are counted and filled
+ * again within the same arrays, which takes linear time and allocates nothing
+ * once the arrays have grown to hold the projectiles.
+ *
+ * <p>
+ * A query calls a {@code ProjectileHitListener} with a pooled
+ * {@code ProjectileHit} for every projectile overlapping its area, paired with
+ * the target the query was made for. The grid must not be queried again from
+ * within a listener. A projectile destroyed through its hit is no longer
+ * reported by any query, even before the grid is next rebuilt.
+ *
+ * <pre>
+ * for (Enemy enemy : enemies) {
+ * 	grid.query(enemy.getBounds(), enemy, hit -&gt; {
+ * 		enemy.damage(10);
+ * 		hit.destroy();
+ * 	});
+ * }
+ * </pre>
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.projectile.ProjectilePool#setGrid(ProjectileGrid)
+ */
+public class ProjectileGrid {
+
+	private final float cellSize;
+	private final float inverseCellSize;
+
+	private int size; // the amount of projectiles within the grid
+	private float[] minX, minY, maxX, maxY; // the bounds of every projectile
+	private Projectile[] projectiles; // the object of every projectile, null for projectiles within the store
+	private int[] slots; // the store slot of every projectile, -1 for projectile objects
+	private int[] stamps; // the last query every projectile was found by, so a projectile within many cells is found once
+	private int[] buckets; // the bucket of every projectile within a single cell, or -1 if it spans many cells
+	private int stamp; // the stamp of the current query
+	private ProjectileStore store; // the store the slots belong to
+
+	private int mask; // the mask used to find the bucket of a hashed cell
+	private int[] bucketStarts; // the index within the entries every bucket starts at
+	private int[] entries; // the projectiles within every bucket, one bucket after another
+
+	/**
+	 * Constructs a new {@code ProjectileGrid} with cells of the given size. The
+	 * cells should be about as large as the areas queried.
+	 *
+	 * @param cellSize the width and height of every cell
+	 * @throws IllegalArgumentException if the cell size is not positive
+	 */
+	public ProjectileGrid(float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("The cell size of a ProjectileGrid must be positive");
+
+		this.cellSize = cellSize;
+		this.inverseCellSize = 1f / cellSize;
+		this.resize(64);
+		this.resizeBuckets(64);
+		this.entries = new int[64];
+	}
+
+	/**
+	 * Rebuilds this grid from the bounds of the given {@code projectiles} and of
+	 * every projectile within the given {@code store}.
+	 *
+	 * @param projectiles the projectile objects
+	 * @param store       the store of packed projectiles
+	 */
+	void rebuild(Array<Projectile> projectiles, ProjectileStore store) {
+		final int size = projectiles.size + store.size();
+		if (size > this.minX.length) this.resize(MathUtils.nextPowerOfTwo(size));
+		if (size > this.mask + 1) this.resizeBuckets(MathUtils.nextPowerOfTwo(size));
+
+		for (int index = 0; index < projectiles.size; index++) {
+			final Projectile projectile = projectiles.items[index];
+			final Rectangle bounds = projectile.getBounds();
+			this.minX[index] = bounds.x;
+			this.minY[index] = bounds.y;
+			this.maxX[index] = bounds.x + bounds.width;
+			this.maxY[index] = bounds.y + bounds.height;
+			this.projectiles[index] = projectile;
+			this.slots[index] = -1;
+		}
+		for (int slot = 0; slot < store.size(); slot++) {
+			final int index = projectiles.size + slot;
+			this.minX[index] = store.getX(slot);
+			this.minY[index] = store.getY(slot);
+			this.maxX[index] = store.getX(slot) + store.getWidth(slot);
+			this.maxY[index] = store.getY(slot) + store.getHeight(slot);
+			this.projectiles[index] = null;
+			this.slots[index] = slot;
+		}
+		if (size < this.size) Arrays.fill(this.projectiles, size, this.size, null);
+		this.size = size;
+		this.store = store;
+
+		// counts the projectiles within every bucket
+		final int[] starts = this.bucketStarts;
+		Arrays.fill(starts, 0);
+		int total = 0;
+		for (int index = 0; index < size; index++) {
+			final int firstX = this.cell(this.minX[index]), lastX = this.cell(this.maxX[index]);
+			final int firstY = this.cell(this.minY[index]), lastY = this.cell(this.maxY[index]);
+			if (firstX == lastX && firstY == lastY) { // most projectiles are within a single cell, so its bucket is kept for the fill
+				final int bucket = this.bucket(firstX, firstY);
+				this.buckets[index] = bucket;
+				starts[bucket + 1]++;
+				total++;
+				continue;
+			}
+
+			this.buckets[index] = -1;
+			for (int cellX = firstX; cellX <= lastX; cellX++) {
+				for (int cellY = firstY; cellY <= lastY; cellY++) {
+					starts[this.bucket(cellX, cellY) + 1]++;
+					total++;
+				}
+			}
+		}
+		for (int bucket = 0; bucket <= this.mask; bucket++) {
+			starts[bucket + 1] += starts[bucket];
+		}
+		if (total > this.entries.length) this.entries = new int[MathUtils.nextPowerOfTwo(total)];
+
+		// fills every bucket, moving the start of every bucket along as its fill position
+		final int[] entries = this.entries;
+		for (int index = 0; index < size; index++) {
+			final int bucket = this.buckets[index];
+			if (bucket >= 0) {
+				entries[starts[bucket]++] = index;
+				continue;
+			}
+
+			final int firstX = this.cell(this.minX[index]), lastX = this.cell(this.maxX[index]);
+			final int firstY = this.cell(this.minY[index]), lastY = this.cell(this.maxY[index]);
+			for (int cellX = firstX; cellX <= lastX; cellX++) {
+				for (int cellY = firstY; cellY <= lastY; cellY++) {
+					entries[starts[this.bucket(cellX, cellY)]++] = index;
+				}
+			}
+		}
+		for (int bucket = this.mask; bucket > 0; bucket--) { // every start was moved to the start of the following bucket
+			starts[bucket] = starts[bucket - 1];
+		}
+		starts[0] = 0;
+	}
+
+	/**
+	 * Calls the given {@code listener} for every projectile overlapping the given
+	 * {@code area}.
+	 *
+	 * @param area     the area to query
+	 * @param target   the target the query is made for, given to every hit
+	 * @param listener the listener to call for every hit
+	 * @return the amount of projectiles overlapping the area
+	 */
+	public int query(Rectangle area, Object target, ProjectileHitListener listener) {
+		return this.query(area.x, area.y, area.x + area.width, area.y + area.height, null, target, listener);
+	}
+
+	/**
+	 * Calls the given {@code listener} for every projectile overlapping the given
+	 * {@code area}.
+	 *
+	 * @param area     the area to query
+	 * @param target   the target the query is made for, given to every hit
+	 * @param listener the listener to call for every hit
+	 * @return the amount of projectiles overlapping the area
+	 */
+	public int query(Circle area, Object target, ProjectileHitListener listener) {
+		return this.query(area.x - area.radius, area.y - area.radius, area.x + area.radius, area.y + area.radius, area, target, listener);
+	}
+
+	/**
+	 * Calls the given {@code listener} for every projectile overlapping the box
+	 * between the given coordinates, and the given {@code circle} if there is one.
+	 */
+	private int query(float minX, float minY, float maxX, float maxY, Circle circle, Object target, ProjectileHitListener listener) {
+		Objects.requireNonNull(listener, "The ProjectileHitListener cannot be NULL");
+		if (this.size == 0) return 0;
+
+		final int stamp = ++this.stamp;
+		final int firstX = this.cell(minX), lastX = this.cell(maxX);
+		final int firstY = this.cell(minY), lastY = this.cell(maxY);
+		int count = 0;
+		if ((long) (lastX - firstX + 1) * (lastY - firstY + 1) > this.mask + 1) { // the area covers more cells than there are buckets, so every projectile is tested
+			for (int index = 0; index < this.size; index++) {
+				count += this.test(index, stamp, minX, minY, maxX, maxY, circle, target, listener);
+			}
+			return count;
+		}
+
+		for (int cellX = firstX; cellX <= lastX; cellX++) {
+			for (int cellY = firstY; cellY <= lastY; cellY++) {
+				final int bucket = this.bucket(cellX, cellY);
+				final int end = this.bucketStarts[bucket + 1];
+				for (int entry = this.bucketStarts[bucket]; entry < end; entry++) {
+					count += this.test(this.entries[entry], stamp, minX, minY, maxX, maxY, circle, target, listener);
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Tests whether the projectile at the given {@code index} overlaps the area of
+	 * a query, and calls the given {@code listener} if it does. A projectile which
+	 * has been destroyed since the grid was rebuilt is skipped.
+	 *
+	 * @return 1 if the projectile overlaps the area; return 0 otherwise
+	 */
+	private int test(int index, int stamp, float minX, float minY, float maxX, float maxY, Circle circle, Object target, ProjectileHitListener listener) {
+		if (this.stamps[index] == stamp) return 0; // already found within another cell
+		this.stamps[index] = stamp;
+
+		final float left = this.minX[index], bottom = this.minY[index], right = this.maxX[index], top = this.maxY[index];
+		if (right < minX || left > maxX || top < minY || bottom > maxY) return 0;
+		if (Objects.nonNull(circle)) {
+			final float dx = circle.x - MathUtils.clamp(circle.x, left, right);
+			final float dy = circle.y - MathUtils.clamp(circle.y, bottom, top);
+			if (dx * dx + dy * dy > circle.radius * circle.radius) return 0;
+		}
+
+		final Projectile projectile = this.projectiles[index];
+		if (Objects.isNull(projectile) ? this.store.isExpired(this.slots[index]) : projectile.canBeDestroyed()) return 0;
+
+		final Pool<ProjectileHit> pool = Pools.get(ProjectileHit.class);
+		final ProjectileHit hit = pool.obtain();
+		try {
+			listener.onHit(hit.set(target, projectile, Objects.isNull(projectile) ? this.store : null, this.slots[index], left, bottom, right - left, top - bottom));
+		} finally {
+			pool.free(hit);
+		}
+		return 1;
+	}
+
+	private int cell(float coordinate) {
+		return MathUtils.floor(coordinate * this.inverseCellSize);
+	}
+
+	private int bucket(int cellX, int cellY) {
+		return ((cellX * 73856093) ^ (cellY * 19349663)) & this.mask;
+	}
+
+	private void resize(int capacity) {
+		this.minX = Objects.isNull(this.minX) ? new float[capacity] : Arrays.copyOf(this.minX, capacity);
+		this.minY = Objects.isNull(this.minY) ? new float[capacity] : Arrays.copyOf(this.minY, capacity);
+		this.maxX = Objects.isNull(this.maxX) ? new float[capacity] : Arrays.copyOf(this.maxX, capacity);
+		this.maxY = Objects.isNull(this.maxY) ? new float[capacity] : Arrays.copyOf(this.maxY, capacity);
+		this.projectiles = Objects.isNull(this.projectiles) ? new Projectile[capacity] : Arrays.copyOf(this.projectiles, capacity);
+		this.slots = Objects.isNull(this.slots) ? new int[capacity] : Arrays.copyOf(this.slots, capacity);
+		this.stamps = Objects.isNull(this.stamps) ? new int[capacity] : Arrays.copyOf(this.stamps, capacity);
+		this.buckets = Objects.isNull(this.buckets) ? new int[capacity] : Arrays.copyOf(this.buckets, capacity);
+	}
+
+	private void resizeBuckets(int buckets) {
+		this.mask = buckets - 1;
+		this.bucketStarts = new int[buckets + 1];
+	}
+
+	/**
+	 * Returns the width and height of every cell of this grid.
+	 *
+	 * @return the cell size
+	 */
+	public float getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Returns the amount of projectiles within this grid, as of the last update of
+	 * its pool.
+	 *
+	 * @return the amount of projectiles
+	 */
+	public int size() {
+		return this.size;
+	}
+
+}
@@ -0,0 +1,134 @@
+package game.library.projectile;
+
+import java.util.Objects;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+/**
+ * This class describes a projectile overlapping the area of a query of a
+ * {@code ProjectileGrid}, paired with the target the query was made for. The
+ * projectile is either a {@code Projectile} object started within the
+ * {@code ProjectilePool}, or a slot of its {@code ProjectileStore}. Hits are
+ * pooled, and are only valid while the listener they were given to is called.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.projectile.ProjectileHitListener
+ */
+public class ProjectileHit implements Poolable {
+
+	private Object target;
+	private Projectile projectile;
+	private ProjectileStore store;
+	private int slot = -1;
+	private float x, y, width, height;
+
+	/**
+	 * Sets the values of this hit.
+	 * 
+	 * @return this instance for chaining
+	 */
+	ProjectileHit set(Object target, Projectile projectile, ProjectileStore store, int slot, float x, float y, float width, float height) {
+		this.target = target;
+		this.projectile = projectile;
+		this.store = store;
+		this.slot = slot;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		return this;
+	}
+
+	/**
+	 * Destroys the projectile of this hit, which is removed once the
+	 * {@code ProjectilePool} is next updated and is no longer reported by any
+	 * query of the grid until then. A projectile should be destroyed this way,
+	 * rather than being removed while the grid is being queried.
+	 */
+	public void destroy() {
+		if (Objects.nonNull(this.projectile)) {
+			this.projectile.reset();
+		} else if (Objects.nonNull(this.store)) {
+			this.store.expire(this.slot);
+		}
+	}
+
+	/**
+	 * Returns the target the query was made for.
+	 * 
+	 * @return the target; return null if no target was given
+	 */
+	public Object getTarget() {
+		return target;
+	}
+
+	/**
+	 * Returns the projectile object of this hit.
+	 * 
+	 * @return the projectile; return null if the projectile is within the
+	 *         {@code ProjectileStore}
+	 */
+	public Projectile getProjectile() {
+		return projectile;
+	}
+
+	/**
+	 * Returns the slot of the projectile of this hit within the
+	 * {@code ProjectileStore}.
+	 * 
+	 * @return the slot; return -1 if the projectile is a {@code Projectile} object
+	 */
+	public int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * Returns the x coordinate of the bounds of the projectile.
+	 * 
+	 * @return the x coordinate
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the y coordinate of the bounds of the projectile.
+	 * 
+	 * @return the y coordinate
+	 */
+	public float getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the width of the bounds of the projectile.
+	 * 
+	 * @return the width
+	 */
+	public float getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the bounds of the projectile.
+	 * 
+	 * @return the height
+	 */
+	public float getHeight() {
+		return height;
+	}
+
+	/**
+	 * Resets the object for reuse. Object references should be nulled and fields
+	 * may be set to default values.
+	 */
+	public void reset() {
+		this.target = null;
+		this.projectile = null;
+		this.store = null;
+		this.slot = -1;
+		this.x = this.y = this.width = this.height = 0;
+	}
+
+}
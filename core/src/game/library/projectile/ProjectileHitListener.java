@@ -0,0 +1,23 @@
+package game.library.projectile;
+
+/**
+ * The {@code ProjectileHitListener} is called for every projectile found by a
+ * query of a {@code ProjectileGrid}, which is every projectile possibly hitting
+ * the target of the query.
+ * 
+ * @author Albert Beaupre
+ * 
+ * @see game.library.projectile.ProjectileGrid
+ */
+@FunctionalInterface
+public interface ProjectileHitListener {
+
+	/**
+	 * Called when a projectile overlaps the area of a query. The given {@code hit}
+	 * is pooled, and is freed once this method returns, so it must not be kept.
+	 * 
+	 * @param hit the hit of the projectile
+	 */
+	public void onHit(ProjectileHit hit);
+
+}
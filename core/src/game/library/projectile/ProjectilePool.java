@@ -8,7 +8,21 @@ import com.badlogic.gdx.utils.Pool;
 
 /**
  * The {@code ProjectilePool} class updates, renders, and reuses
- * {@code Projectile} objects.
+ * {@code Projectile} objects. Projectiles launched through
+ * {@link Projectile#launch()} are kept within the {@code ProjectileStore} of
+ * this pool instead, which is updated and rendered along with it.
+ * 
+ * <p>
+ * Started projectiles are kept densely within a single array. A projectile
+ * which has expired is removed by moving the last projectile into its index,
+ * which takes constant time, and the moved projectile is updated within the
+ * same update, so every projectile is updated exactly once every update.
+ * Expired projectiles are only freed once every projectile has been updated.
+ * 
+ * <p>
+ * A {@code ProjectileGrid} set through {@link #setGrid(ProjectileGrid)} is
+ * rebuilt from every projectile of this pool once it has been updated, so the
+ * projectiles overlapping an area can be queried from it.
  * 
  * @author Albert Beaupre
  * 
@@ -17,6 +31,9 @@ import com.badlogic.gdx.utils.Pool;
 public class ProjectilePool extends Pool<Projectile> {
 
 	private Array<Projectile> rendering;
+	private final Array<Projectile> expired; // the projectiles expired during an update, freed once it has finished
+	private final ProjectileStore store; // the projectiles launched into packed arrays
+	private ProjectileGrid grid; // the broadphase rebuilt every update, null if there is none
 
 	/**
 	 * Constructs a new {@code ProjectilePool} with a growing initial capacity of
@@ -26,7 +43,9 @@ public class ProjectilePool extends Pool<Projectile> {
 	 * @param initialCapacity the beginning capacity of the pool
 	 */
 	public ProjectilePool(int initialCapacity) {
-		this.rendering = new Array<>(false, initialCapacity);
+		this.rendering = new Array<>(false, initialCapacity, Projectile.class);
+		this.expired = new Array<>(false, 16, Projectile.class);
+		this.store = new ProjectileStore(initialCapacity);
 	}
 
 	/**
@@ -37,12 +56,11 @@ public class ProjectilePool extends Pool<Projectile> {
 	 */
 	public void render(SpriteBatch batch) {
 		batch.begin();
+		final Projectile[] projectiles = this.rendering.items;
 		for (int index = 0; index < this.rendering.size; index++) {
-			Projectile projectile = this.rendering.get(index);
-			if (Objects.isNull(projectile)) continue;
-
-			projectile.render(batch);
+			projectiles[index].render(batch);
 		}
+		this.store.render(batch);
 		batch.end();
 	}
 
@@ -53,26 +71,80 @@ public class ProjectilePool extends Pool<Projectile> {
 	 * @param delta the time between frames
 	 */
 	public void update(float delta) {
-		for (int index = 0; index < this.rendering.size; index++) {
-			Projectile projectile = this.rendering.get(index);
-			if (Objects.isNull(projectile)) continue;
+		int index = 0;
+		while (index < this.rendering.size) {
+			final Projectile projectile = this.rendering.items[index];
+			projectile.update(delta);
 
 			if (projectile.canBeDestroyed()) {
-				this.free(projectile);
-				this.rendering.removeIndex(index);
+				this.rendering.removeIndex(index); // the last projectile is moved into this index, and is updated next
+				projectile.started = false;
+				this.expired.add(projectile);
 				continue;
 			}
-			projectile.update(delta);
+			index++;
+		}
+
+		if (this.expired.size > 0) {
+			this.freeAll(this.expired);
+			this.expired.clear();
 		}
+		this.store.update(delta);
+		if (Objects.nonNull(this.grid)) this.grid.rebuild(this.rendering, this.store);
 	}
 
 	/**
-	 * Adds the given {@code projectile} to the rendering process.
+	 * Adds the given {@code projectile} to the rendering process. A projectile
+	 * which has already been added is not added again.
 	 * 
 	 * @param projectile the projectile to add
 	 */
 	public void addProjectile(Projectile projectile) {
-		this.rendering.add(projectile);;
+		Objects.requireNonNull(projectile, "Cannot add a NULL Projectile");
+		if (projectile.started) return;
+
+		projectile.started = true;
+		this.rendering.add(projectile);
+	}
+
+	/**
+	 * Returns the amount of projectiles started within this pool, not counting
+	 * those launched into its store.
+	 * 
+	 * @return the amount of started projectiles
+	 */
+	public int getActiveCount() {
+		return this.rendering.size;
+	}
+
+	/**
+	 * Returns the {@code ProjectileStore} holding the projectiles launched into
+	 * packed arrays.
+	 * 
+	 * @return the projectile store
+	 */
+	public ProjectileStore getStore() {
+		return this.store;
+	}
+
+	/**
+	 * Sets the {@code ProjectileGrid} rebuilt from the projectiles of this pool
+	 * every time it is updated.
+	 * 
+	 * @param grid the grid to rebuild, or null to stop rebuilding a grid
+	 */
+	public void setGrid(ProjectileGrid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Returns the {@code ProjectileGrid} rebuilt from the projectiles of this pool
+	 * every time it is updated.
+	 * 
+	 * @return the grid; return null if no grid has been set
+	 */
+	public ProjectileGrid getGrid() {
+		return this.grid;
 	}
 
 	/**
@@ -0,0 +1,288 @@
+package game.library.projectile;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * The {@code ProjectileStore} class updates and renders projectiles kept within
+ * packed arrays rather than within {@code Projectile} objects. Every projectile
+ * is a slot across a set of parallel arrays holding its position, direction,
+ * speed and distance travelled, so moving every projectile is a single loop
+ * over contiguous floats without any branch, which the JIT compiler can unroll
+ * and vectorize. This lets tens of thousands of projectiles be moved every step.
+ *
+ * <p>
+ * Projectiles are still built through the fluent methods of a
+ * {@code Projectile}, and are copied into this store once launched through
+ * {@link Projectile#launch()}. The slots are kept dense; an expired projectile
+ * is replaced by the last slot, so removing it takes constant time.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.projectile.ProjectilePool#getStore()
+ */
+public class ProjectileStore {
+
+	private float[] x, y; // the position of every projectile
+	private float[] directionX, directionY; // the normalized direction of every projectile
+	private float[] speed; // the speed of every projectile
+	private float[] travelled; // the distance every projectile has travelled since it was last aimed
+	private float[] limit; // the distance every projectile travels before it expires
+	private float[] distanceLimit; // the distance limit every projectile was given, 0 if it travels to its ending location
+	private float[] endingX, endingY; // the ending location of every projectile
+	private float[] angle; // the angle every projectile is rendered at
+	private float[] width, height; // the size of every projectile
+	private Sprite[] sprites; // the sprite of every projectile, null if it has none
+	private ProjectileTracker[] trackers; // the tracker every projectile follows, null if it follows none
+
+	private int size; // the amount of projectiles
+	private int trackedCount; // the amount of projectiles following a tracker
+
+	/**
+	 * Constructs a new {@code ProjectileStore} holding the given amount of
+	 * projectiles before growing.
+	 *
+	 * @param initialCapacity the beginning capacity of the store
+	 */
+	public ProjectileStore(int initialCapacity) {
+		this.resize(Math.max(1, initialCapacity));
+	}
+
+	/**
+	 * Copies the given {@code projectile} into a new slot of this store. A
+	 * projectile without any direction is never moved, and is not added.
+	 *
+	 * @param projectile the projectile to add
+	 * @return true if added; return false if the projectile has no direction
+	 */
+	public boolean add(Projectile projectile) {
+		final Vector2 direction = projectile.getDirection();
+		if (direction.x == 0 && direction.y == 0) return false;
+		if (this.size == this.x.length) this.resize(this.size << 1);
+
+		final int slot = this.size++;
+		final Vector2 position = projectile.getPosition();
+		final Vector2 ending = projectile.getEndingLocation();
+		final Sprite sprite = projectile.getSprite();
+		this.x[slot] = position.x;
+		this.y[slot] = position.y;
+		this.directionX[slot] = direction.x;
+		this.directionY[slot] = direction.y;
+		this.speed[slot] = projectile.getSpeed();
+		this.travelled[slot] = projectile.getBeginningLocation().dst(position);
+		this.distanceLimit[slot] = projectile.getDistanceLimit();
+		this.limit[slot] = projectile.getDistanceLimit() > 0 ? projectile.getDistanceLimit() : position.dst(ending);
+		this.endingX[slot] = ending.x;
+		this.endingY[slot] = ending.y;
+		this.angle[slot] = projectile.getAngle();
+		this.width[slot] = Objects.isNull(sprite) ? 0 : sprite.getWidth();
+		this.height[slot] = Objects.isNull(sprite) ? 0 : sprite.getHeight();
+		this.sprites[slot] = sprite;
+		this.trackers[slot] = projectile.getTracker();
+		if (Objects.nonNull(this.trackers[slot])) this.trackedCount++;
+		return true;
+	}
+
+	/**
+	 * Updates the movement of every projectile within this store. Projectiles which
+	 * have travelled their limit are removed.
+	 *
+	 * @param delta the time between frames
+	 */
+	public void update(float delta) {
+		if (this.trackedCount > 0) this.aim();
+
+		final float[] x = this.x, y = this.y, directionX = this.directionX, directionY = this.directionY, speed = this.speed, travelled = this.travelled;
+		final int size = this.size;
+		for (int slot = 0; slot < size; slot++) {
+			final float step = speed[slot] * delta;
+			x[slot] += directionX[slot] * step;
+			y[slot] += directionY[slot] * step;
+			travelled[slot] += step;
+		}
+
+		final float[] limit = this.limit;
+		for (int slot = size - 1; slot >= 0; slot--) { // walked backwards, so the slot moved into a removed slot has been checked already
+			if (travelled[slot] >= limit[slot]) this.remove(slot);
+		}
+	}
+
+	/**
+	 * Aims every projectile following a tracker which has moved at the position of
+	 * its tracker.
+	 */
+	private void aim() {
+		for (int slot = 0; slot < this.size; slot++) {
+			final ProjectileTracker tracker = this.trackers[slot];
+			if (Objects.isNull(tracker)) continue;
+
+			final Vector2 target = tracker.getPosition();
+			if (target.x == this.endingX[slot] && target.y == this.endingY[slot]) continue;
+
+			final float dx = target.x - this.x[slot], dy = target.y - this.y[slot];
+			final float distance = (float) Math.sqrt(dx * dx + dy * dy);
+			this.endingX[slot] = target.x;
+			this.endingY[slot] = target.y;
+			this.angle[slot] = (float) (Math.atan2(dy, dx) * (180f / Math.PI));
+			this.directionX[slot] = distance == 0 ? 0 : dx / distance;
+			this.directionY[slot] = distance == 0 ? 0 : dy / distance;
+			this.travelled[slot] = 0;
+			this.limit[slot] = this.distanceLimit[slot] > 0 ? this.distanceLimit[slot] : distance;
+		}
+	}
+
+	/**
+	 * Renders the sprite of every projectile within this store to the given
+	 * batch, which must already have begun.
+	 *
+	 * @param batch the batch to draw with
+	 */
+	public void render(SpriteBatch batch) {
+		for (int slot = 0; slot < this.size; slot++) {
+			final Sprite sprite = this.sprites[slot];
+			if (Objects.isNull(sprite)) continue;
+
+			sprite.setPosition(this.x[slot], this.y[slot]);
+			sprite.setRotation(this.angle[slot]);
+			sprite.draw(batch);
+		}
+	}
+
+	/**
+	 * Removes the projectile within the given {@code slot}, moving the last
+	 * projectile into it.
+	 *
+	 * @param slot the slot to remove
+	 */
+	public void remove(int slot) {
+		if (slot < 0 || slot >= this.size) throw new IndexOutOfBoundsException("slot can't be >= size: " + slot + " >= " + this.size);
+		if (Objects.nonNull(this.trackers[slot])) this.trackedCount--;
+
+		final int last = --this.size;
+		this.x[slot] = this.x[last];
+		this.y[slot] = this.y[last];
+		this.directionX[slot] = this.directionX[last];
+		this.directionY[slot] = this.directionY[last];
+		this.speed[slot] = this.speed[last];
+		this.travelled[slot] = this.travelled[last];
+		this.limit[slot] = this.limit[last];
+		this.distanceLimit[slot] = this.distanceLimit[last];
+		this.endingX[slot] = this.endingX[last];
+		this.endingY[slot] = this.endingY[last];
+		this.angle[slot] = this.angle[last];
+		this.width[slot] = this.width[last];
+		this.height[slot] = this.height[last];
+		this.sprites[slot] = this.sprites[last];
+		this.trackers[slot] = this.trackers[last];
+		this.sprites[last] = null;
+		this.trackers[last] = null;
+	}
+
+	/**
+	 * Expires the projectile within the given {@code slot}, so it is removed once
+	 * this store is next updated. Unlike {@link #remove(int)}, no slot is moved,
+	 * so this can be done while the slots are being walked.
+	 *
+	 * @param slot the slot to expire
+	 */
+	public void expire(int slot) {
+		if (slot < 0 || slot >= this.size) throw new IndexOutOfBoundsException("slot can't be >= size: " + slot + " >= " + this.size);
+		this.travelled[slot] = Float.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Returns true if the projectile within the given {@code slot} has travelled
+	 * its limit or has been expired, and is removed once this store is next
+	 * updated.
+	 *
+	 * @param slot the slot of the projectile
+	 * @return true if expired; return false otherwise
+	 */
+	public boolean isExpired(int slot) {
+		return this.travelled[slot] >= this.limit[slot];
+	}
+
+	/**
+	 * Removes every projectile from this store.
+	 */
+	public void clear() {
+		Arrays.fill(this.sprites, 0, this.size, null);
+		Arrays.fill(this.trackers, 0, this.size, null);
+		this.size = 0;
+		this.trackedCount = 0;
+	}
+
+	private void resize(int capacity) {
+		this.x = Objects.isNull(this.x) ? new float[capacity] : Arrays.copyOf(this.x, capacity);
+		this.y = Objects.isNull(this.y) ? new float[capacity] : Arrays.copyOf(this.y, capacity);
+		this.directionX = Objects.isNull(this.directionX) ? new float[capacity] : Arrays.copyOf(this.directionX, capacity);
+		this.directionY = Objects.isNull(this.directionY) ? new float[capacity] : Arrays.copyOf(this.directionY, capacity);
+		this.speed = Objects.isNull(this.speed) ? new float[capacity] : Arrays.copyOf(this.speed, capacity);
+		this.travelled = Objects.isNull(this.travelled) ? new float[capacity] : Arrays.copyOf(this.travelled, capacity);
+		this.limit = Objects.isNull(this.limit) ? new float[capacity] : Arrays.copyOf(this.limit, capacity);
+		this.distanceLimit = Objects.isNull(this.distanceLimit) ? new float[capacity] : Arrays.copyOf(this.distanceLimit, capacity);
+		this.endingX = Objects.isNull(this.endingX) ? new float[capacity] : Arrays.copyOf(this.endingX, capacity);
+		this.endingY = Objects.isNull(this.endingY) ? new float[capacity] : Arrays.copyOf(this.endingY, capacity);
+		this.angle = Objects.isNull(this.angle) ? new float[capacity] : Arrays.copyOf(this.angle, capacity);
+		this.width = Objects.isNull(this.width) ? new float[capacity] : Arrays.copyOf(this.width, capacity);
+		this.height = Objects.isNull(this.height) ? new float[capacity] : Arrays.copyOf(this.height, capacity);
+		this.sprites = Objects.isNull(this.sprites) ? new Sprite[capacity] : Arrays.copyOf(this.sprites, capacity);
+		this.trackers = Objects.isNull(this.trackers) ? new ProjectileTracker[capacity] : Arrays.copyOf(this.trackers, capacity);
+	}
+
+	/**
+	 * Returns the x coordinate of the projectile within the given {@code slot}.
+	 *
+	 * @param slot the slot of the projectile
+	 * @return the x coordinate
+	 */
+	public float getX(int slot) {
+		return this.x[slot];
+	}
+
+	/**
+	 * Returns the y coordinate of the projectile within the given {@code slot}.
+	 *
+	 * @param slot the slot of the projectile
+	 * @return the y coordinate
+	 */
+	public float getY(int slot) {
+		return this.y[slot];
+	}
+
+	/**
+	 * Returns the width of the projectile within the given {@code slot}, which is
+	 * the width of its sprite.
+	 *
+	 * @param slot the slot of the projectile
+	 * @return the width
+	 */
+	public float getWidth(int slot) {
+		return this.width[slot];
+	}
+
+	/**
+	 * Returns the height of the projectile within the given {@code slot}, which is
+	 * the height of its sprite.
+	 *
+	 * @param slot the slot of the projectile
+	 * @return the height
+	 */
+	public float getHeight(int slot) {
+		return this.height[slot];
+	}
+
+	/**
+	 * Returns the amount of projectiles within this store.
+	 *
+	 * @return the amount of projectiles
+	 */
+	public int size() {
+		return this.size;
+	}
+
+}
@@ -0,0 +1,34 @@
+package game.library.tick;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * This callback receives the result of a task submitted through
+ * {@link TickPool#submit(java.util.function.Supplier, AsyncCallback)}. The task
+ * runs on a worker thread, but the callback is always called on the game
+ * thread while the {@code TickPool} updates.
+ *
+ * @author Albert Beaupre
+ *
+ * @param <T> the type of result
+ */
+public interface AsyncCallback<T> {
+
+	/**
+	 * Called on the game thread once the task has completed.
+	 *
+	 * @param result the result of the task
+	 */
+	public void onComplete(T result);
+
+	/**
+	 * Called on the game thread if the task has thrown an exception. By default the
+	 * exception is logged.
+	 *
+	 * @param throwable the exception thrown by the task
+	 */
+	public default void onFailure(Throwable throwable) {
+		Gdx.app.error("Tick Pool", "An asynchronous task has failed", throwable);
+	}
+
+}
@@ -0,0 +1,259 @@
+package game.library.tick;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+/**
+ * This class runs tasks on a bounded pool of worker threads and hands their
+ * results back to the game thread. Completed tasks wait within a bounded queue
+ * until the {@code TickPool} drains them during its update, which calls the
+ * callback of every task on the game thread.
+ *
+ * <p>
+ * The tasks are pooled and referred to by generation-stamped handles, like
+ * ticks, so submitting and completing a task creates no garbage and a stale
+ * handle can never cancel a task which has since reused its slot.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.TickPool#submit(Supplier, AsyncCallback)
+ */
+final class AsyncTickExecutor {
+
+	/**
+	 * A single task submitted to the executor.
+	 */
+	private static final class Task implements Runnable, Poolable {
+
+		private final int slot; // the slot of this task within the handle table
+		private int generation = 1; // the generation of this task, changed every time it is reset
+
+		private Supplier<?> work; // the work run on a worker thread
+		private AsyncCallback<?> callback; // the callback called on the game thread
+		private Object result; // the result of the work
+		private Throwable failure; // the exception thrown by the work
+		private volatile boolean cancelled; // the flag to determine if the task has been cancelled
+
+		private ArrayBlockingQueue<Task> completed; // the queue this task is added to once it has run
+
+		/**
+		 * Constructs a new {@code Task} within the given handle slot.
+		 *
+		 * @param slot the slot of the task
+		 */
+		private Task(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public void run() {
+			if (!this.cancelled) {
+				try {
+					this.result = this.work.get();
+				} catch (Throwable throwable) {
+					this.failure = throwable;
+				}
+			}
+			this.completed.offer(this); // never fails, since the queue has room for every outstanding task
+		}
+
+		@Override
+		public void reset() {
+			this.work = null;
+			this.callback = null;
+			this.result = null;
+			this.failure = null;
+			this.cancelled = false;
+			if (++this.generation == 0) this.generation = 1; // the generation 0 is reserved for the NONE handle
+		}
+	}
+
+	private final Pool<Task> taskPool = new Pool<Task>() {
+		protected Task newObject() {
+			final Task task = new Task(handleCount);
+			if (handleCount == handleTable.length) {
+				handleTable = Arrays.copyOf(handleTable, handleCount << 1);
+			}
+			handleTable[handleCount++] = task;
+			task.completed = completed;
+			return task;
+		}
+	};
+
+	private final ThreadPoolExecutor workers;
+	private final ArrayBlockingQueue<Task> completed; // the tasks waiting to be completed on the game thread
+	private final int capacity; // the maximum amount of outstanding tasks
+	private Task[] handleTable; // every task created by this executor, indexed by the slot of its handle
+	private int handleCount; // the amount of slots used within the handle table
+
+	private int completionLimit; // the maximum amount of tasks completed every update, 0 for no limit
+	private int outstanding; // the amount of tasks submitted which have not been completed
+	private long rejectedCount; // the amount of tasks rejected because the executor was full
+	private long completedCount; // the amount of tasks completed on the game thread
+
+	/**
+	 * Constructs a new {@code AsyncTickExecutor} with the given amount of worker
+	 * threads, holding at most the given amount of outstanding tasks.
+	 *
+	 * @param threads  the amount of worker threads
+	 * @param capacity the maximum amount of outstanding tasks
+	 */
+	AsyncTickExecutor(int threads, int capacity) {
+		if (threads <= 0) throw new IllegalArgumentException("An AsyncTickExecutor must have at least one thread");
+		if (capacity <= 0) throw new IllegalArgumentException("An AsyncTickExecutor must have a positive capacity");
+
+		this.capacity = capacity;
+		this.completed = new ArrayBlockingQueue<>(capacity);
+		this.handleTable = new Task[Math.min(capacity, 16)];
+		this.workers = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity), runnable -> {
+			final Thread thread = new Thread(runnable, "Tick Worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.workers.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submits the given {@code work} to be run on a worker thread, with its result
+	 * given to the {@code callback} on the game thread.
+	 *
+	 * @param work     the work to run
+	 * @param callback the callback of the result
+	 * @return the handle of the task; return {@link TickHandle#NONE} if the
+	 *         executor is full
+	 */
+	<T> long submit(Supplier<T> work, AsyncCallback<T> callback) {
+		if (this.outstanding >= this.capacity) {
+			this.rejectedCount++;
+			return TickHandle.NONE;
+		}
+
+		final Task task = this.taskPool.obtain();
+		task.work = work;
+		task.callback = callback;
+		this.outstanding++;
+		this.workers.execute(task);
+		return TickHandle.packTask(task.slot, task.generation);
+	}
+
+	/**
+	 * Cancels the task of the given {@code handle}. A task which has not yet run
+	 * will not run, and the callback of a cancelled task is never called.
+	 *
+	 * @param handle the handle of the task
+	 * @return true if the task was cancelled; return false if the handle is stale
+	 *         or is not a task handle
+	 */
+	boolean cancel(long handle) {
+		if (!TickHandle.isTask(handle)) return false;
+
+		final int slot = TickHandle.slot(handle) & ~TickHandle.TASK_FLAG;
+		if (slot >= this.handleCount) return false;
+
+		final Task task = this.handleTable[slot];
+		if (task.generation != TickHandle.generation(handle) || task.cancelled) return false;
+
+		task.cancelled = true;
+		return true;
+	}
+
+	/**
+	 * Calls the callback of the completed tasks on the game thread, completing at
+	 * most the completion limit of tasks. The tasks left over are completed on the
+	 * following updates.
+	 */
+	@SuppressWarnings("unchecked")
+	void drain() {
+		final int limit = this.completionLimit > 0 ? this.completionLimit : Integer.MAX_VALUE;
+		Task task;
+		for (int count = 0; count < limit && (task = this.completed.poll()) != null; count++) {
+			this.outstanding--;
+			try {
+				if (task.cancelled) continue;
+
+				this.completedCount++;
+				final AsyncCallback<Object> callback = (AsyncCallback<Object>) task.callback;
+				if (Objects.isNull(callback)) continue;
+
+				if (Objects.nonNull(task.failure)) {
+					callback.onFailure(task.failure);
+				} else {
+					callback.onComplete(task.result);
+				}
+			} finally {
+				this.taskPool.free(task);
+			}
+		}
+	}
+
+	/**
+	 * Sets the maximum amount of tasks completed every update.
+	 *
+	 * @param completionLimit the completion limit, 0 or less for no limit
+	 */
+	void setCompletionLimit(int completionLimit) {
+		this.completionLimit = completionLimit;
+	}
+
+	/**
+	 * Returns the amount of tasks submitted which have not been completed.
+	 *
+	 * @return the amount of outstanding tasks
+	 */
+	int getOutstanding() {
+		return outstanding;
+	}
+
+	/**
+	 * Returns the amount of tasks waiting on a worker thread to run.
+	 *
+	 * @return the amount of queued tasks
+	 */
+	int getQueued() {
+		return this.workers.getQueue().size();
+	}
+
+	/**
+	 * Returns the amount of tasks which have run and are waiting to be completed on
+	 * the game thread.
+	 *
+	 * @return the amount of tasks waiting to be completed
+	 */
+	int getWaiting() {
+		return this.completed.size();
+	}
+
+	/**
+	 * Returns the amount of tasks rejected because the executor was full.
+	 *
+	 * @return the amount of rejected tasks
+	 */
+	long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * Returns the amount of tasks which have been completed on the game thread.
+	 *
+	 * @return the amount of completed tasks
+	 */
+	long getCompletedCount() {
+		return completedCount;
+	}
+
+	/**
+	 * Stops the worker threads of this executor. Tasks which have not yet run are
+	 * discarded, and no callback is called.
+	 */
+	void shutdown() {
+		this.workers.shutdownNow();
+	}
+
+}
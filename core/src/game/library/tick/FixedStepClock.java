@@ -0,0 +1,162 @@
+package game.library.tick;
+
+/**
+ * This class is a fixed timestep clock used to update the simulation with a
+ * constant step regardless of the time between frames. The time of each frame
+ * is accumulated, and the simulation is stepped once for every whole step
+ * within the accumulated time. The amount of steps within a single frame is
+ * limited, so a slow frame cannot cause ever larger amounts of steps to catch
+ * up on.
+ *
+ * <p>
+ * The remaining time which is not enough for a whole step is exposed as the
+ * {@link #getAlpha()} value, which should be used to interpolate rendering
+ * between the previous and current simulation state.
+ *
+ * <pre>
+ * int steps = clock.accumulate(Gdx.graphics.getDeltaTime());
+ * for (int i = 0; i &lt; steps; i++) {
+ * 	simulate(clock.getStepTime());
+ * }
+ * render(clock.getAlpha());
+ * </pre>
+ *
+ * @author Albert Beaupre
+ */
+public class FixedStepClock {
+
+	private float stepTime; // the amount of seconds for each step
+	private int maximumSteps; // the maximum amount of steps within a single frame
+	private float accumulator; // the accumulated time not yet stepped
+
+	private long steps; // the total amount of steps taken
+	private long droppedSteps; // the total amount of steps dropped because of the maximum steps
+
+	/**
+	 * Constructs a new {@code FixedStepClock} stepping the given amount of times
+	 * every second, and stepping at most the given amount of steps within a single
+	 * frame.
+	 *
+	 * @param stepRate     the amount of steps every second
+	 * @param maximumSteps the maximum amount of steps within a single frame
+	 * @throws IllegalArgumentException if either argument is not positive
+	 */
+	public FixedStepClock(float stepRate, int maximumSteps) {
+		this.setStepRate(stepRate);
+		this.setMaximumSteps(maximumSteps);
+	}
+
+	/**
+	 * Accumulates the given {@code delta} and returns the amount of steps the
+	 * simulation should be updated with this frame. If there are more steps to
+	 * take than the maximum amount of steps, then the extra time is dropped so the
+	 * clock can never fall further behind.
+	 *
+	 * @param delta the time between frames
+	 * @return the amount of steps to take
+	 */
+	public int accumulate(float delta) {
+		if (delta > 0) this.accumulator += delta;
+
+		int count = (int) (this.accumulator / this.stepTime);
+		if (count > this.maximumSteps) {
+			this.droppedSteps += count - this.maximumSteps;
+			this.accumulator -= (count - this.maximumSteps) * this.stepTime;
+			count = this.maximumSteps;
+		}
+		this.accumulator -= count * this.stepTime;
+		if (this.accumulator < 0) this.accumulator = 0; // guard against floating point error
+
+		this.steps += count;
+		return count;
+	}
+
+	/**
+	 * Returns the fraction of a step which has accumulated but not yet been
+	 * stepped. This value is between 0 and 1 and is used to interpolate rendering
+	 * between the previous and current simulation state.
+	 *
+	 * @return the interpolation alpha
+	 */
+	public float getAlpha() {
+		return Math.min(1, this.accumulator / this.stepTime);
+	}
+
+	/**
+	 * Sets the amount of steps this clock takes every second.
+	 *
+	 * @param stepRate the amount of steps every second
+	 * @throws IllegalArgumentException if the step rate is not positive
+	 */
+	public void setStepRate(float stepRate) {
+		if (stepRate <= 0) throw new IllegalArgumentException("The step rate of a FixedStepClock must be positive");
+		this.stepTime = 1f / stepRate;
+	}
+
+	/**
+	 * Returns the amount of steps this clock takes every second.
+	 *
+	 * @return the step rate
+	 */
+	public float getStepRate() {
+		return 1f / this.stepTime;
+	}
+
+	/**
+	 * Returns the amount of seconds for each step of this clock.
+	 *
+	 * @return the step time
+	 */
+	public float getStepTime() {
+		return stepTime;
+	}
+
+	/**
+	 * Sets the maximum amount of steps this clock can take within a single frame.
+	 *
+	 * @param maximumSteps the maximum amount of steps
+	 * @throws IllegalArgumentException if the maximum steps is not positive
+	 */
+	public void setMaximumSteps(int maximumSteps) {
+		if (maximumSteps <= 0) throw new IllegalArgumentException("The maximum steps of a FixedStepClock must be positive");
+		this.maximumSteps = maximumSteps;
+	}
+
+	/**
+	 * Returns the maximum amount of steps this clock can take within a single
+	 * frame.
+	 *
+	 * @return the maximum amount of steps
+	 */
+	public int getMaximumSteps() {
+		return maximumSteps;
+	}
+
+	/**
+	 * Returns the total amount of steps this clock has taken.
+	 *
+	 * @return the amount of steps
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Returns the total amount of steps this clock has dropped because a frame had
+	 * more steps to take than the maximum amount of steps.
+	 *
+	 * @return the amount of dropped steps
+	 */
+	public long getDroppedSteps() {
+		return droppedSteps;
+	}
+
+	/**
+	 * Clears the accumulated time of this clock. This should be used after the
+	 * application resumes so the paused time is not stepped.
+	 */
+	public void clear() {
+		this.accumulator = 0;
+	}
+
+}
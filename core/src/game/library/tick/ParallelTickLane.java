@@ -0,0 +1,151 @@
+package game.library.tick;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * This class collects the parallel {@code Tick} objects which have become due
+ * during an update of the {@code TickPool} and executes them across a
+ * {@code ForkJoinPool}. The ticks are split into a chunk for each thread of the
+ * pool, and {@link #execute(TickPool)} does not return until every chunk has
+ * finished, so the parallel ticks have always completed before rendering.
+ *
+ * <p>
+ * A tick that becomes due several times within a single update is collected
+ * once and executed once for every time it became due, so the same tick is
+ * never executed by two threads at once.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.Tick#parallel(boolean)
+ */
+final class ParallelTickLane {
+
+	/**
+	 * This task executes a range of the collected ticks.
+	 */
+	private final class ChunkTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private int from, to; // the range of collected ticks to execute
+
+		@Override
+		protected void compute() {
+			final Tick[] items = ticks.items;
+			for (int index = this.from; index < this.to; index++) {
+				final Tick tick = items[index];
+				for (int run = 0; run < tick.parallelRuns; run++) {
+					tick.execute();
+				}
+			}
+		}
+	}
+
+	/**
+	 * This task forks every chunk task and waits for them to finish.
+	 */
+	private final class RootTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private int chunkCount; // the amount of chunks used for this execution
+
+		@Override
+		protected void compute() {
+			for (int index = 1; index < this.chunkCount; index++) {
+				chunks[index].fork();
+			}
+			chunks[0].compute(); // the first chunk is computed on this thread
+			for (int index = 1; index < this.chunkCount; index++) {
+				chunks[index].join();
+			}
+		}
+	}
+
+	private final Array<Tick> ticks; // the parallel ticks collected during the current update
+	private ForkJoinPool executor; // the pool the parallel ticks are executed within
+	private ChunkTask[] chunks; // the reusable chunk tasks, one for every thread of the executor
+	private final RootTask root;
+	private boolean executing; // the flag to determine if the parallel ticks are executing
+
+	/**
+	 * Constructs a new {@code ParallelTickLane} executing within the common
+	 * {@code ForkJoinPool}.
+	 */
+	ParallelTickLane() {
+		this.ticks = new Array<>(false, 16, Tick.class);
+		this.root = new RootTask();
+		this.setExecutor(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Collects the given {@code tick} to be executed by {@link #execute(TickPool)}.
+	 *
+	 * @param tick the due tick
+	 */
+	void defer(Tick tick) {
+		if (tick.parallelRuns++ == 0) this.ticks.add(tick);
+	}
+
+	/**
+	 * Executes every collected tick across the executor and waits for all of them
+	 * to finish. Ticks stopped by their own action while executing are cancelled
+	 * within the given {@code pool} afterwards.
+	 *
+	 * @param pool the pool the ticks are running within
+	 */
+	void execute(TickPool pool) {
+		if (this.ticks.size == 0) return;
+
+		final int chunkCount = Math.min(this.chunks.length, this.ticks.size);
+		final int chunkSize = (this.ticks.size + chunkCount - 1) / chunkCount;
+		for (int index = 0; index < chunkCount; index++) {
+			final ChunkTask chunk = this.chunks[index];
+			chunk.reinitialize();
+			chunk.from = index * chunkSize;
+			chunk.to = Math.min(this.ticks.size, chunk.from + chunkSize);
+		}
+		this.root.reinitialize();
+		this.root.chunkCount = chunkCount;
+
+		this.executing = true;
+		try {
+			this.executor.invoke(this.root);
+		} finally {
+			this.executing = false;
+
+			for (int index = 0; index < this.ticks.size; index++) {
+				final Tick tick = this.ticks.get(index);
+				tick.parallelRuns = 0;
+				if (tick.isStopped() && tick.scheduled) pool.cancelTick(tick);
+			}
+			this.ticks.clear();
+		}
+	}
+
+	/**
+	 * Returns true if the collected ticks are currently executing.
+	 *
+	 * @return true if executing; return false otherwise
+	 */
+	boolean isExecuting() {
+		return executing;
+	}
+
+	/**
+	 * Sets the {@code ForkJoinPool} the parallel ticks are executed within.
+	 *
+	 * @param executor the pool to execute within
+	 */
+	void setExecutor(ForkJoinPool executor) {
+		this.executor = executor;
+		this.chunks = new ChunkTask[Math.max(1, executor.getParallelism())];
+		for (int index = 0; index < this.chunks.length; index++) {
+			this.chunks[index] = new ChunkTask();
+		}
+	}
+
+}
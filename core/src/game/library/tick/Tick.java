@@ -18,11 +18,31 @@ import game.LibraryConstants;
 public class Tick implements Poolable {
 
 	private float delay; // the delay in seconds
-	private float duration; // the duration in fractional seconds
 	private short occurences; // the amount of times this tick has ticked
 	private Runnable action; // the action to execute every delay occurrence
 
 	private boolean stopped; // the flag to determine if this tick needs stopped
+	private boolean parallel; // the flag to determine if this tick can execute off the game thread
+	private TickPriority priority = TickPriority.CRITICAL; // the priority class of this tick
+	private String group; // the name this tick is profiled under
+
+	/**
+	 * These fields are used by the {@code TickWheel} to link this tick into the
+	 * slot it is scheduled within.
+	 */
+	TickPool pool; // the pool this tick has been started within
+	Tick next, previous; // the neighbouring ticks within the same wheel slot
+	int wheelIndex; // the index of the wheel slot this tick is linked into
+	long due; // the time, in wheel units, this tick is due to execute
+	long periodStart; // the time, in wheel units, the current delay started from
+	boolean scheduled; // the flag to determine if this tick is linked into the wheel
+	boolean parked; // the flag to determine if this tick is kept out of the wheel until it is unparked
+	int parallelRuns; // the amount of times this parallel tick is due within the current update
+	int deferredRuns; // the amount of times this deferred tick is waiting to be executed
+	TickProfiler.Group profile; // the profiler group this tick was last recorded within
+
+	int handleSlot = -1; // the slot of this tick within the handle table of its pool
+	int generation = 1; // the generation of this tick, changed every time it is reset
 
 	/**
 	 * Starts this {@code Tick} by adding it to the {@code TickPool}.
@@ -52,23 +72,37 @@ public class Tick implements Poolable {
 	}
 
 	/**
-	 * Updates this {@code Tick} with the given delta. This method uses the delta to
-	 * determine the duration of the tick.
-	 * 
-	 * @param delta the time between frames
+	 * Executes this {@code Tick} for a single period of its delay. This method is
+	 * called by the {@code TickPool} once for every time the delay of this tick
+	 * has passed, even when several delays have passed within a single update,
+	 * and calls {@link #update(float)} with the delay.
 	 */
-	protected void update(float delta) {
+	final void execute() {
 		if (this.stopped) return;
 
-		this.duration += delta;
-
-		if (this.duration >= this.delay) {
-			Objects.requireNonNull(action, "The action of a Tick must be set!").run();
-			this.duration = 0;
-			this.occurences++;
+		final TickProfiler profiler = Objects.isNull(this.pool) ? null : this.pool.profiler;
+		if (Objects.isNull(profiler)) {
+			this.update(this.delay);
+		} else {
+			final long start = System.nanoTime();
+			this.update(this.delay);
+			profiler.record(this, System.nanoTime() - start);
 		}
 	}
 
+	/**
+	 * Updates this {@code Tick} once its delay has passed, executing its action.
+	 * This method is called once for every period of the delay which has elapsed,
+	 * and can be overridden to change what a tick does every period.
+	 * 
+	 * @param delta the seconds elapsed since this tick was last updated, which is
+	 *              its delay
+	 */
+	protected void update(float delta) {
+		Objects.requireNonNull(this.action, "The action of a Tick must be set!").run();
+		this.occurences++;
+	}
+
 	/**
 	 * Sets the runnable action of this {@code Tick} to the given argument. This
 	 * action will be executed every time the duration of this tick equals the
@@ -78,9 +112,87 @@ public class Tick implements Poolable {
 	 */
 	public Tick action(Runnable action) {
 		this.action = action;
+		this.profile = null;
+		return this;
+	}
+
+	/**
+	 * Sets the parallel flag of this {@code Tick} to the given argument. A parallel
+	 * tick has its action executed across a {@code ForkJoinPool} along with the
+	 * other parallel ticks due within the same update, instead of on the game
+	 * thread. The {@code TickPool} waits for every parallel tick to finish before
+	 * its update returns.
+	 * 
+	 * <p>
+	 * The action of a parallel tick must be thread-safe. It must not render, touch
+	 * the GL context, or start or stop any tick other than stopping its own tick.
+	 * 
+	 * @param parallel true if the action can execute in parallel
+	 * @return this instance for chaining
+	 */
+	public Tick parallel(boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * Returns true if the action of this {@code Tick} is executed in parallel.
+	 * 
+	 * @return true if parallel; return false otherwise
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Sets the priority class of this {@code Tick} to the given argument. A
+	 * {@link TickPriority#DEFERRABLE} tick can be put off to a later update once
+	 * the time budget of the {@code TickPool} has been spent. The priority does not
+	 * apply to parallel ticks.
+	 * 
+	 * @param priority the priority class
+	 * @return this instance for chaining
+	 * @throws NullPointerException if the priority is null
+	 */
+	public Tick priority(TickPriority priority) {
+		this.priority = Objects.requireNonNull(priority, "The priority of a Tick cannot be NULL");
+		return this;
+	}
+
+	/**
+	 * Returns the priority class of this tick.
+	 * 
+	 * @return the priority
+	 */
+	public TickPriority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the name of the group this {@code Tick} is profiled under. Ticks without
+	 * a group are profiled under the class name of their action.
+	 * 
+	 * @param group the name of the group
+	 * @return this instance for chaining
+	 * 
+	 * @see game.library.tick.TickPool#setProfiling(boolean)
+	 */
+	public Tick group(String group) {
+		this.group = group;
+		this.profile = null;
 		return this;
 	}
 
+	/**
+	 * Returns the name of the group this tick is profiled under.
+	 * 
+	 * @return the group name
+	 */
+	public String getGroup() {
+		if (Objects.nonNull(this.group)) return this.group;
+		return Objects.isNull(this.action) ? "null" : this.action.getClass().getName();
+	}
+
 	/**
 	 * Returns the action of this tick.
 	 * 
@@ -99,14 +211,48 @@ public class Tick implements Poolable {
 	 */
 	public Tick delay(float delay) {
 		this.delay = delay;
+		if (this.scheduled) this.pool.rescheduleTick(this);
 		return this;
 	}
 
+	/**
+	 * Returns the delay of this tick.
+	 * 
+	 * @return the delay in seconds
+	 */
+	public float getDelay() {
+		return delay;
+	}
+
 	/**
 	 * Stops this {@code Tick} from updating any further.
 	 */
 	public void stop() {
+		if (this.stopped) return;
+
 		this.stopped = true;
+		if (Objects.nonNull(this.pool) && !this.pool.isExecutingParallel()) this.pool.cancelTick(this);
+	}
+
+	/**
+	 * Parks this {@code Tick}, taking it out of the timing wheel without stopping
+	 * it. A parked tick is not executed and is not scheduled again after its
+	 * current execution until it is unparked.
+	 */
+	void park() {
+		this.parked = true;
+		if (this.scheduled) this.pool.unscheduleTick(this);
+	}
+
+	/**
+	 * Unparks this {@code Tick}, scheduling it again once its delay has passed from
+	 * the current time of its pool.
+	 */
+	void unpark() {
+		if (!this.parked) return;
+
+		this.parked = false;
+		if (!this.stopped && Objects.nonNull(this.pool)) this.pool.addTick(this);
 	}
 
 	/**
@@ -118,6 +264,21 @@ public class Tick implements Poolable {
 		return stopped;
 	}
 
+	/**
+	 * Returns the handle of this {@code Tick}. The handle refers to this tick only
+	 * until it has been freed back into its pool, after which the handle is stale
+	 * and will not resolve. A tick that was not created by a {@code TickPool} has
+	 * the {@link TickHandle#NONE} handle.
+	 * 
+	 * @return the handle of this tick
+	 * 
+	 * @see game.library.tick.TickHandle
+	 */
+	public long getHandle() {
+		if (this.handleSlot < 0) return TickHandle.NONE;
+		return TickHandle.pack(this.handleSlot, this.generation);
+	}
+
 	/**
 	 * Returns the amount of times this {@code Tick} has ticked.
 	 * 
@@ -127,15 +288,39 @@ public class Tick implements Poolable {
 		return occurences;
 	}
 
+	/**
+	 * Restores the state of this {@code Tick} which cannot be set through its
+	 * builder methods. This is used when a tick is restored from a snapshot.
+	 * 
+	 * @param pool       the pool this tick is restored into
+	 * @param occurences the amount of times this tick has ticked
+	 */
+	void restore(TickPool pool, short occurences) {
+		this.pool = pool;
+		this.occurences = occurences;
+	}
+
 	/**
 	 * Resets the object for reuse. Object references should be nulled and fields
 	 * may be set to default values.
 	 */
 	public void reset() {
 		this.delay = 0;
-		this.duration = 0;
 		this.stopped = false;
+		this.parallel = false;
+		this.parallelRuns = 0;
+		this.priority = TickPriority.CRITICAL;
+		this.deferredRuns = 0;
+		this.group = null;
+		this.profile = null;
 		this.action = null;
+		this.pool = null;
+		this.next = null;
+		this.previous = null;
+		this.scheduled = false;
+		this.parked = false;
+
+		if (++this.generation == 0) this.generation = 1; // the generation 0 is reserved for the NONE handle
 	}
 
 }
@@ -0,0 +1,99 @@
+package game.library.tick;
+
+/**
+ * This class holds the methods used to pack and unpack a tick handle. A tick
+ * handle is a {@code long} value holding the slot of a {@code Tick} within its
+ * {@code TickPool} and the generation of that tick. Every time a tick is freed
+ * back into its pool its generation changes, so a handle held after the tick
+ * has been reused is stale and will no longer resolve to the tick.
+ *
+ * <p>
+ * The handles of asynchronous tasks submitted to a {@code TickPool} are packed
+ * the same way, but with the highest bit of their slot set, so a task handle
+ * never resolves to a tick and a tick handle never cancels a task.
+ *
+ * <p>
+ * Handles are primitive values, so they can be stored, compared and passed
+ * around without any allocation. The {@link #NONE} handle never resolves to a
+ * tick.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.Tick#getHandle()
+ * @see game.library.tick.TickPool#resolve(long)
+ */
+public final class TickHandle {
+
+	/**
+	 * The handle which never resolves to a {@code Tick}.
+	 */
+	public static final long NONE = 0L;
+
+	/**
+	 * The bit set within the slot of every task handle. Slots of ticks are never
+	 * negative, so this bit is never set within a tick handle.
+	 */
+	static final int TASK_FLAG = 0x80000000;
+
+	/**
+	 * Prevents this class from being constructed.
+	 */
+	private TickHandle() {
+		throw new UnsupportedOperationException("TickHandle cannot be constructed");
+	}
+
+	/**
+	 * Packs the given {@code slot} and {@code generation} into a handle.
+	 *
+	 * @param slot       the slot of the tick within its pool
+	 * @param generation the generation of the tick
+	 * @return the packed handle
+	 */
+	public static long pack(int slot, int generation) {
+		return ((long) generation << 32) | (slot & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Packs the given {@code slot} and {@code generation} of an asynchronous task
+	 * into a task handle.
+	 *
+	 * @param slot       the slot of the task within its executor
+	 * @param generation the generation of the task
+	 * @return the packed task handle
+	 */
+	static long packTask(int slot, int generation) {
+		return pack(slot | TASK_FLAG, generation);
+	}
+
+	/**
+	 * Returns true if the given handle refers to an asynchronous task rather than
+	 * a tick.
+	 *
+	 * @param handle the handle to check
+	 * @return true if a task handle; return false otherwise
+	 */
+	public static boolean isTask(long handle) {
+		return (slot(handle) & TASK_FLAG) != 0;
+	}
+
+	/**
+	 * Returns the slot of the tick within its pool from the given handle.
+	 *
+	 * @param handle the handle to unpack
+	 * @return the slot
+	 */
+	public static int slot(long handle) {
+		return (int) handle;
+	}
+
+	/**
+	 * Returns the generation of the tick from the given handle.
+	 *
+	 * @param handle the handle to unpack
+	 * @return the generation
+	 */
+	public static int generation(long handle) {
+		return (int) (handle >>> 32);
+	}
+
+}
@@ -1,76 +1,625 @@
 package game.library.tick;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Queue;
 
 /**
  * This is a pool for the {@code Tick} class. Ticks are added to this pool by
- * using the {@link #addTick(Runnable, float)} method. The action of the tick is
- * executed between the tick delay.
- * 
+ * using the {@link #addTick(Tick)} method. The action of the tick is executed
+ * between the tick delay.
+ *
+ * <p>
+ * Running ticks are scheduled within a hierarchical timing wheel, so adding
+ * and stopping a tick is constant time and updating this pool only touches the
+ * ticks that are due within the frame.
+ *
+ * <p>
+ * Every tick created by this pool can be referred to by its handle, which
+ * goes stale once the tick has been freed back into this pool. Running ticks
+ * can be cancelled, rescheduled and queried through their handles without any
+ * allocation.
+ *
+ * <p>
+ * Ticks flagged as parallel are executed across a {@code ForkJoinPool} once
+ * the other due ticks have executed, and the update of this pool waits for all
+ * of them to finish before returning.
+ *
+ * <p>
+ * An update can be given a time budget. Critical ticks are always executed,
+ * but once the budget has been spent, deferrable ticks spill over into the
+ * following updates, executed in the order they became due.
+ *
+ * <p>
+ * Work can be submitted to run on a pool of worker threads, and its result is
+ * handed back to a callback on the game thread during a following update. The
+ * worker threads are stopped once this pool is disposed.
+ *
+ * <p>
+ * The scheduled ticks can be written into a binary snapshot and restored from
+ * it later, with their actions identified through a {@code TickRegistry}.
+ *
+ * <p>
+ * Profiling can be enabled to record the execution time of every group of
+ * ticks. While profiling is disabled, no tick is timed.
+ *
  * @author Albert Beaupre
- * 
+ *
  * @see game.library.tick.Tick
+ * @see game.library.tick.TickHandle
+ * @see game.library.tick.TickRegistry
  * @see com.badlogic.gdx.utils.Pool
  */
-public class TickPool extends Pool<Tick> {
+public class TickPool extends Pool<Tick> implements Disposable {
 
-	private Array<Tick> runningTicks;
+	/**
+	 * The default amount of seconds for each unit of time within the timing wheel.
+	 */
+	public static final float DEFAULT_RESOLUTION = 0.001f;
+
+	private final TickWheel wheel;
+	private final ParallelTickLane parallelLane;
+	private final Array<Tick> stoppedTicks;
+	private final Queue<Tick> deferredTicks; // the deferrable ticks waiting for time within the budget
+	private long updateBudget; // the nanoseconds an update may spend on deferrable ticks, 0 for no budget
+	private long updateStart; // the nano time the current update started at
+	private int lastSpillCount; // the amount of deferrable ticks spilled over by the last update
+	private long spillCount; // the total amount of deferrable ticks spilled over
+	TickProfiler profiler; // the profiler recording the execution times, null while profiling is disabled
+	private AsyncTickExecutor asyncExecutor; // the executor of asynchronous tasks, created on the first submission
+	private int asyncThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	private int asyncCapacity = 1024;
+	private int completionLimit; // the maximum amount of asynchronous tasks completed every update
+	private Tick[] handleTable; // every tick created by this pool, indexed by the slot of its handle
+	private int handleCount; // the amount of slots used within the handle table
 
 	/**
 	 * Constructs a new {@code TickPool} with an initial capacity of the given
 	 * argument.
-	 * 
+	 *
 	 * @param initialCapacity the initial capacity of the tick array
 	 */
 	public TickPool(int initialCapacity) {
-		this.runningTicks = new Array<>(false, initialCapacity);
+		this(initialCapacity, DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Constructs a new {@code TickPool} with an initial capacity of the given
+	 * argument. The resolution is the amount of seconds for each unit of time
+	 * within the timing wheel, so ticks are executed within this amount of seconds
+	 * of their delay.
+	 *
+	 * @param initialCapacity the initial capacity of the tick array
+	 * @param resolution      the seconds for each unit of time
+	 */
+	public TickPool(int initialCapacity, float resolution) {
+		this.parallelLane = new ParallelTickLane();
+		this.wheel = new TickWheel(resolution, this);
+		this.stoppedTicks = new Array<>(false, initialCapacity);
+		this.deferredTicks = new Queue<>(Math.max(initialCapacity, 1));
+		this.handleTable = new Tick[Math.max(initialCapacity, 1)];
 	}
 
 	/**
 	 * Updates this {@code TickPool} with the given delta. This method uses the
-	 * delta to determine the duration for each of the ticks. Every tick that has
-	 * been created through this pool will be
-	 * 
-	 * @param delta
+	 * delta to advance the timing wheel, and every tick that has been created
+	 * through this pool and is due within the delta will be executed. Before the
+	 * ticks, the callbacks of completed asynchronous tasks are called. Parallel
+	 * ticks are executed next, and this method waits for them to finish. Lastly,
+	 * deferrable ticks waiting from earlier updates are executed while there is
+	 * time left within the budget.
+	 *
+	 * @param delta the time between frames
 	 */
 	public void update(float delta) {
-		for (int i = 0; i < this.runningTicks.size; i++) {
-			Tick tick = this.runningTicks.get(i);
-			if (Objects.isNull(tick)) continue; // ignore empty spots in the array
+		this.updateStart = System.nanoTime();
+
+		for (int i = 0; i < this.stoppedTicks.size; i++) {
+			final Tick tick = this.stoppedTicks.get(i);
+			this.wheel.remove(tick); // a tick must never be reset while it is still linked into the wheel
+			this.free(tick);
+		}
+		this.stoppedTicks.clear();
+
+		if (Objects.nonNull(this.asyncExecutor)) this.asyncExecutor.drain();
+
+		this.wheel.advance(delta);
+		this.parallelLane.execute(this);
+		this.executeDeferred();
+
+		if (Objects.nonNull(this.profiler)) this.profiler.update(delta);
+	}
+
+	/**
+	 * Executes the given due {@code tick}, or hands it to the parallel lane or the
+	 * deferred queue depending on the tick.
+	 *
+	 * @param tick the due tick
+	 */
+	void dispatch(Tick tick) {
+		if (tick.isParallel()) {
+			this.parallelLane.defer(tick);
+		} else if (tick.getPriority() == TickPriority.DEFERRABLE && this.updateBudget > 0) {
+			if (tick.deferredRuns++ == 0) this.deferredTicks.addLast(tick);
+		} else {
+			tick.execute();
+		}
+	}
+
+	/**
+	 * Executes the deferrable ticks in the order they became due until the budget
+	 * of this update has been spent. At least one tick is executed every update, so
+	 * deferred ticks always make progress. The ticks left over spill into the
+	 * following updates.
+	 */
+	private void executeDeferred() {
+		while (this.deferredTicks.size > 0) {
+			final Tick tick = this.deferredTicks.removeFirst();
+			final int runs = tick.deferredRuns;
+			tick.deferredRuns = 0;
 
 			if (tick.isStopped()) {
-				tick.reset();
-				this.free(tick);
-				this.runningTicks.set(i, null);
+				this.stoppedTicks.add(tick); // the tick was kept out of the stopped ticks while it was waiting
 				continue;
 			}
-			tick.update(delta); // updates all ticks within the array
+			for (int run = 0; run < runs; run++) {
+				tick.execute(); // a tick stopping itself is handed to the stopped ticks by cancelTick
+			}
+
+			if (this.updateBudget > 0 && System.nanoTime() - this.updateStart >= this.updateBudget) break;
 		}
+		this.lastSpillCount = this.deferredTicks.size;
+		this.spillCount += this.deferredTicks.size;
 	}
 
 	/**
 	 * Adds a new {@code Tick} to the pool. The action and delay of the tick must be
-	 * set for it to
-	 * 
+	 * set for it to execute. A tick which has been stopped is waiting to be freed
+	 * back into this pool, so it is not added again.
+	 *
 	 * @param tick the tick to add
 	 */
 	public void addTick(Tick tick) {
-		int emptyIndex = this.runningTicks.indexOf(null, true);
-		if (emptyIndex != -1) {
-			this.runningTicks.set(emptyIndex, tick);
-		} else {
-			this.runningTicks.add(tick);
+		Objects.requireNonNull(tick, "Cannot add a NULL Tick");
+		if (tick.scheduled || tick.parked || tick.isStopped()) return;
+
+		tick.pool = this;
+		this.wheel.schedule(tick);
+	}
+
+	/**
+	 * Removes the given {@code tick} from the timing wheel. The tick is freed back
+	 * into this pool on the next update.
+	 *
+	 * @param tick the tick to cancel
+	 */
+	void cancelTick(Tick tick) {
+		this.wheel.remove(tick);
+		if (tick.deferredRuns == 0) this.stoppedTicks.add(tick); // a waiting deferred tick is freed once it leaves the queue
+	}
+
+	/**
+	 * Removes the given {@code tick} from the timing wheel without stopping it.
+	 * This is used when a tick is parked.
+	 *
+	 * @param tick the tick to unschedule
+	 */
+	void unscheduleTick(Tick tick) {
+		this.wheel.remove(tick);
+	}
+
+	/**
+	 * Schedules the given {@code tick} again after its delay has been changed.
+	 *
+	 * @param tick the tick to reschedule
+	 */
+	void rescheduleTick(Tick tick) {
+		this.wheel.reschedule(tick);
+	}
+
+	/**
+	 * Returns true if the parallel ticks of this pool are currently executing.
+	 *
+	 * @return true if executing parallel ticks; return false otherwise
+	 */
+	boolean isExecutingParallel() {
+		return this.parallelLane.isExecuting();
+	}
+
+	/**
+	 * Sets the {@code ForkJoinPool} parallel ticks are executed within. By default
+	 * the common pool is used.
+	 *
+	 * @param executor the pool to execute parallel ticks within
+	 * @throws NullPointerException if the executor is null
+	 */
+	public void setParallelExecutor(ForkJoinPool executor) {
+		this.parallelLane.setExecutor(Objects.requireNonNull(executor, "The parallel executor cannot be NULL"));
+	}
+
+	/**
+	 * Sets the amount of milliseconds an update of this pool may spend before
+	 * deferrable ticks are put off to the following updates. Critical ticks are
+	 * always executed. A budget of 0 or less removes the budget, so every tick is
+	 * executed on the update it becomes due.
+	 *
+	 * @param milliseconds the budget of every update
+	 */
+	public void setUpdateBudget(float milliseconds) {
+		this.updateBudget = milliseconds > 0 ? (long) (milliseconds * 1_000_000L) : 0;
+		if (this.updateBudget == 0) this.executeDeferred(); // nothing can wait without a budget
+	}
+
+	/**
+	 * Returns the amount of milliseconds an update of this pool may spend before
+	 * deferrable ticks are put off to the following updates.
+	 *
+	 * @return the budget of every update; return 0 if there is no budget
+	 */
+	public float getUpdateBudget() {
+		return this.updateBudget / 1_000_000f;
+	}
+
+	/**
+	 * Submits the given {@code work} to run on a worker thread. Once it has run,
+	 * its result is given to the {@code callback} on the game thread during a
+	 * following update of this pool. The worker threads are started by the first
+	 * submission.
+	 *
+	 * @param work     the work to run off the game thread
+	 * @param callback the callback of the result, which may be null
+	 * @return the handle of the task; return {@link TickHandle#NONE} if there are
+	 *         too many tasks outstanding
+	 * @throws NullPointerException if the work is null
+	 */
+	public <T> long submit(Supplier<T> work, AsyncCallback<T> callback) {
+		Objects.requireNonNull(work, "The work of an asynchronous task cannot be NULL");
+		if (Objects.isNull(this.asyncExecutor)) {
+			this.asyncExecutor = new AsyncTickExecutor(this.asyncThreads, this.asyncCapacity);
+			this.asyncExecutor.setCompletionLimit(this.completionLimit);
 		}
+		return this.asyncExecutor.submit(work, callback);
+	}
+
+	/**
+	 * Cancels the asynchronous task of the given {@code handle}. The work of the
+	 * task will not run if it has not started, and its callback is never called.
+	 *
+	 * @param handle the handle of the task
+	 * @return true if the task was cancelled; return false if the handle is stale
+	 *         or is not a task handle
+	 */
+	public boolean cancelTask(long handle) {
+		return Objects.nonNull(this.asyncExecutor) && this.asyncExecutor.cancel(handle);
+	}
+
+	/**
+	 * Sets the amount of worker threads running asynchronous tasks, and the
+	 * maximum amount of tasks outstanding at once. This must be set before the
+	 * first task is submitted.
+	 *
+	 * @param threads  the amount of worker threads
+	 * @param capacity the maximum amount of outstanding tasks
+	 * @throws IllegalStateException if a task has already been submitted
+	 */
+	public void setAsyncWorkers(int threads, int capacity) {
+		if (Objects.nonNull(this.asyncExecutor)) throw new IllegalStateException("The asynchronous workers have already been started");
+		if (threads <= 0 || capacity <= 0) throw new IllegalArgumentException("The asynchronous threads and capacity must be positive");
+
+		this.asyncThreads = threads;
+		this.asyncCapacity = capacity;
+	}
+
+	/**
+	 * Sets the maximum amount of asynchronous tasks which have their callback
+	 * called every update. The tasks left over are completed on the following
+	 * updates.
+	 *
+	 * @param completionLimit the completion limit, 0 or less for no limit
+	 */
+	public void setCompletionLimit(int completionLimit) {
+		this.completionLimit = completionLimit;
+		if (Objects.nonNull(this.asyncExecutor)) this.asyncExecutor.setCompletionLimit(completionLimit);
+	}
+
+	/**
+	 * Returns the amount of asynchronous tasks submitted which have not yet been
+	 * completed on the game thread.
+	 *
+	 * @return the amount of outstanding tasks
+	 */
+	public int getOutstandingTaskCount() {
+		return Objects.isNull(this.asyncExecutor) ? 0 : this.asyncExecutor.getOutstanding();
+	}
+
+	/**
+	 * Returns the amount of asynchronous tasks waiting on a worker thread to run.
+	 *
+	 * @return the depth of the worker queue
+	 */
+	public int getQueuedTaskCount() {
+		return Objects.isNull(this.asyncExecutor) ? 0 : this.asyncExecutor.getQueued();
+	}
+
+	/**
+	 * Returns the amount of asynchronous tasks which have run and are waiting to be
+	 * completed on the game thread.
+	 *
+	 * @return the depth of the completion queue
+	 */
+	public int getWaitingTaskCount() {
+		return Objects.isNull(this.asyncExecutor) ? 0 : this.asyncExecutor.getWaiting();
+	}
+
+	/**
+	 * Returns the amount of asynchronous tasks rejected because too many tasks were
+	 * outstanding.
+	 *
+	 * @return the amount of rejected tasks
+	 */
+	public long getRejectedTaskCount() {
+		return Objects.isNull(this.asyncExecutor) ? 0 : this.asyncExecutor.getRejectedCount();
+	}
+
+	/**
+	 * Returns the amount of asynchronous tasks which have been completed on the
+	 * game thread.
+	 *
+	 * @return the amount of completed tasks
+	 */
+	public long getCompletedTaskCount() {
+		return Objects.isNull(this.asyncExecutor) ? 0 : this.asyncExecutor.getCompletedCount();
+	}
+
+	/**
+	 * Returns the amount of bytes a snapshot of this pool would take, writing only
+	 * the ticks with an action registered within the given {@code registry}.
+	 *
+	 * @param registry the registry of actions
+	 * @return the size of the snapshot in bytes
+	 */
+	public int getSnapshotSize(TickRegistry registry) {
+		return TickSnapshot.HEADER_SIZE + TickSnapshot.count(this.wheel, Objects.requireNonNull(registry, "The TickRegistry cannot be NULL")) * TickSnapshot.RECORD_SIZE;
+	}
+
+	/**
+	 * Writes a snapshot of the running ticks of this pool into the given
+	 * {@code buffer}. Every tick with an action registered within the given
+	 * {@code registry} is written along with the time left until it is due, and
+	 * ticks with any other action are left out.
+	 *
+	 * @param buffer   the buffer to write into
+	 * @param registry the registry of actions
+	 * @return the amount of ticks written
+	 * @throws BufferOverflowException if the buffer does not have enough room left,
+	 *                                 in which case nothing is written
+	 * @see #getSnapshotSize(TickRegistry)
+	 */
+	public int writeSnapshot(ByteBuffer buffer, TickRegistry registry) {
+		return TickSnapshot.write(this.wheel, Objects.requireNonNull(registry, "The TickRegistry cannot be NULL"), buffer);
+	}
+
+	/**
+	 * Writes a snapshot of the running ticks of this pool into the given
+	 * {@code channel}. The given {@code buffer} holds the ticks before they are
+	 * written, so a snapshot of any size can be written through a small buffer.
+	 *
+	 * @param channel  the channel to write into
+	 * @param registry the registry of actions
+	 * @param buffer   the buffer to hold the ticks within
+	 * @return the amount of ticks written
+	 * @throws IOException if the channel cannot be written to
+	 * @see #writeSnapshot(ByteBuffer, TickRegistry)
+	 */
+	public int writeSnapshot(WritableByteChannel channel, TickRegistry registry, ByteBuffer buffer) throws IOException {
+		return TickSnapshot.write(this.wheel, Objects.requireNonNull(registry, "The TickRegistry cannot be NULL"), channel, buffer);
+	}
+
+	/**
+	 * Restores the ticks of the snapshot within the given {@code buffer} into this
+	 * pool. Every tick is started with its action looked up within the given
+	 * {@code registry}, and is due once the time it had left has passed. Ticks with
+	 * a key which is not registered are skipped. Ticks already running within this
+	 * pool are not affected.
+	 *
+	 * @param buffer   the buffer to read from
+	 * @param registry the registry of actions
+	 * @return the amount of ticks restored
+	 * @throws IllegalArgumentException if the buffer does not hold a snapshot
+	 */
+	public int readSnapshot(ByteBuffer buffer, TickRegistry registry) {
+		return TickSnapshot.read(this, this.wheel, Objects.requireNonNull(registry, "The TickRegistry cannot be NULL"), buffer);
+	}
+
+	/**
+	 * Restores the ticks of the snapshot within the given {@code channel} into this
+	 * pool. The given {@code buffer} holds the ticks once they have been read, and
+	 * no bytes past the end of the snapshot are read from the channel.
+	 *
+	 * @param channel  the channel to read from
+	 * @param registry the registry of actions
+	 * @param buffer   the buffer to hold the ticks within
+	 * @return the amount of ticks restored
+	 * @throws IOException if the channel cannot be read or ends before the
+	 *                     snapshot does
+	 * @see #readSnapshot(ByteBuffer, TickRegistry)
+	 */
+	public int readSnapshot(ReadableByteChannel channel, TickRegistry registry, ByteBuffer buffer) throws IOException {
+		return TickSnapshot.read(this, this.wheel, Objects.requireNonNull(registry, "The TickRegistry cannot be NULL"), channel, buffer);
+	}
+
+	/**
+	 * Enables or disables profiling of this pool. While enabled, the execution time
+	 * of every tick is recorded within the {@code TickProfiler} of this pool.
+	 * Disabling profiling discards the profiler and everything it has recorded.
+	 *
+	 * @param profiling true to enable profiling
+	 */
+	public void setProfiling(boolean profiling) {
+		if (profiling && Objects.isNull(this.profiler)) {
+			this.profiler = new TickProfiler();
+		} else if (!profiling) {
+			this.profiler = null;
+		}
+	}
+
+	/**
+	 * Returns the {@code TickProfiler} of this pool.
+	 *
+	 * @return the profiler; return null if profiling is disabled
+	 */
+	public TickProfiler getProfiler() {
+		return this.profiler;
+	}
+
+	/**
+	 * Returns the amount of deferrable ticks currently waiting to be executed.
+	 *
+	 * @return the amount of waiting ticks
+	 */
+	public int getDeferredCount() {
+		return this.deferredTicks.size;
+	}
+
+	/**
+	 * Returns the amount of deferrable ticks the last update put off to the
+	 * following updates.
+	 *
+	 * @return the amount of ticks spilled over by the last update
+	 */
+	public int getLastSpillCount() {
+		return this.lastSpillCount;
+	}
+
+	/**
+	 * Returns the total amount of times a deferrable tick has been put off to a
+	 * following update.
+	 *
+	 * @return the total amount of ticks spilled over
+	 */
+	public long getSpillCount() {
+		return this.spillCount;
+	}
+
+	/**
+	 * Returns the {@code Tick} the given {@code handle} refers to. If the handle is
+	 * stale, because the tick has been freed back into this pool, then this method
+	 * returns null.
+	 *
+	 * @param handle the handle of the tick
+	 * @return the tick of the handle; return null if the handle is stale or is a
+	 *         task handle
+	 */
+	public Tick resolve(long handle) {
+		if (TickHandle.isTask(handle)) return null;
+
+		final int slot = TickHandle.slot(handle);
+		if (slot < 0 || slot >= this.handleCount) return null;
+
+		final Tick tick = this.handleTable[slot];
+		if (tick.generation != TickHandle.generation(handle)) return null;
+		return tick;
+	}
+
+	/**
+	 * Returns true if the tick of the given {@code handle} is running within this
+	 * pool.
+	 *
+	 * @param handle the handle of the tick
+	 * @return true if running; return false if stopped or the handle is stale
+	 */
+	public boolean isRunning(long handle) {
+		final Tick tick = this.resolve(handle);
+		return Objects.nonNull(tick) && tick.pool == this && !tick.isStopped();
+	}
+
+	/**
+	 * Stops the tick of the given {@code handle} if it is still running. A stale
+	 * handle will never stop the tick that has since reused its slot.
+	 *
+	 * @param handle the handle of the tick
+	 * @return true if the tick was stopped; return false otherwise
+	 */
+	public boolean cancel(long handle) {
+		if (!this.isRunning(handle)) return false;
+
+		this.resolve(handle).stop();
+		return true;
+	}
+
+	/**
+	 * Sets the delay of the tick of the given {@code handle} if it is still
+	 * running. The delay is counted from the time the current period of the tick
+	 * started.
+	 *
+	 * @param handle the handle of the tick
+	 * @param delay  the new delay of the tick
+	 * @return true if the tick was rescheduled; return false otherwise
+	 */
+	public boolean reschedule(long handle, float delay) {
+		if (!this.isRunning(handle)) return false;
+
+		this.resolve(handle).delay(delay);
+		return true;
+	}
+
+	/**
+	 * Returns the amount of seconds until the tick of the given {@code handle}
+	 * executes next.
+	 *
+	 * @param handle the handle of the tick
+	 * @return the remaining seconds; return -1 if the tick is not running
+	 */
+	public float getRemaining(long handle) {
+		if (!this.isRunning(handle)) return -1;
+
+		return this.wheel.toSeconds(this.resolve(handle).due - this.wheel.getCurrentTime());
+	}
+
+	/**
+	 * Returns the amount of ticks running within this pool.
+	 *
+	 * @return the amount of running ticks
+	 */
+	public int getRunningCount() {
+		return this.wheel.size();
+	}
+
+	/**
+	 * Stops the worker threads running asynchronous tasks. Tasks which have not
+	 * yet been completed are discarded without their callback being called. A task
+	 * submitted afterwards starts the worker threads again.
+	 */
+	@Override
+	public void dispose() {
+		if (Objects.isNull(this.asyncExecutor)) return;
+
+		this.asyncExecutor.shutdown();
+		this.asyncExecutor = null;
 	}
 
 	/**
 	 * This is called when there are no free objects to reuse.
 	 */
 	protected Tick newObject() {
-		return new Tick();
+		final Tick tick = new Tick();
+		if (this.handleCount == this.handleTable.length) {
+			this.handleTable = Arrays.copyOf(this.handleTable, this.handleCount << 1);
+		}
+		tick.handleSlot = this.handleCount;
+		this.handleTable[this.handleCount++] = tick;
+		return tick;
 	}
 
 }
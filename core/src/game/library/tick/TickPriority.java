@@ -0,0 +1,34 @@
+package game.library.tick;
+
+/**
+ * The priority classes of a {@code Tick}. The priority decides whether a due
+ * tick is executed straight away, or whether it can be put off to a later
+ * update once the time budget of the {@code TickPool} has been spent.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.Tick#priority(TickPriority)
+ * @see game.library.tick.TickPool#setUpdateBudget(float)
+ */
+public enum TickPriority {
+
+	/**
+	 * A critical tick is always executed on the update it becomes due, whether or
+	 * not the time budget has been spent. This is the priority of every tick by
+	 * default.
+	 */
+	CRITICAL,
+
+	/**
+	 * A deferrable tick is executed on the update it becomes due only while there
+	 * is time left within the budget. Otherwise it waits, in the order it became
+	 * due, to be executed on the following updates.
+	 */
+	DEFERRABLE;
+
+	/**
+	 * Every priority class, indexed by its ordinal.
+	 */
+	static final TickPriority[] VALUES = values();
+
+}
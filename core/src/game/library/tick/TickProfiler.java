@@ -0,0 +1,291 @@
+package game.library.tick;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class records how much time the actions of {@code Tick} objects take to
+ * execute. Ticks are profiled by their group, which is the name given through
+ * {@link Tick#group(String)}, or the class name of their action if no group has
+ * been given. Every group keeps its invocation count, its total and maximum
+ * execution time, and a histogram of its execution times.
+ *
+ * <p>
+ * A profiler is only created once profiling has been enabled through
+ * {@link TickPool#setProfiling(boolean)}, and a pool without a profiler does
+ * not time any tick.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.TickPool#getProfiler()
+ */
+public class TickProfiler {
+
+	/**
+	 * The amount of buckets within the histogram of every group. Bucket 0 counts
+	 * executions under 1 microsecond, and every following bucket counts executions
+	 * taking up to twice as long as the bucket before it.
+	 */
+	public static final int HISTOGRAM_BUCKETS = 32;
+
+	/**
+	 * Compares the total execution time of two groups, longest first.
+	 */
+	private static final Comparator<Group> TOTAL_TIME_ORDER = (first, second) -> Long.compare(second.totalTime, first.totalTime);
+
+	/**
+	 * The recorded executions of a single group of ticks.
+	 */
+	public static final class Group {
+
+		private final TickProfiler profiler; // the profiler this group belongs to
+		private final String name;
+		private final long[] histogram;
+		private long count; // the amount of executions
+		private long totalTime; // the nanoseconds of every execution combined
+		private long maximumTime; // the nanoseconds of the longest execution
+
+		/**
+		 * Constructs a new {@code Group} with the given name.
+		 *
+		 * @param profiler the profiler this group belongs to
+		 * @param name     the name of the group
+		 */
+		private Group(TickProfiler profiler, String name) {
+			this.profiler = profiler;
+			this.name = name;
+			this.histogram = new long[HISTOGRAM_BUCKETS];
+		}
+
+		/**
+		 * Records a single execution taking the given amount of nanoseconds.
+		 *
+		 * @param nanos the nanoseconds the execution took
+		 */
+		private synchronized void record(long nanos) {
+			this.count++;
+			this.totalTime += nanos;
+			if (nanos > this.maximumTime) this.maximumTime = nanos;
+
+			final int bucket = 64 - Long.numberOfLeadingZeros(nanos >>> 10); // the power of two of the microseconds
+			this.histogram[Math.min(bucket, HISTOGRAM_BUCKETS - 1)]++;
+		}
+
+		/**
+		 * Clears every recorded execution of this group.
+		 */
+		private synchronized void clear() {
+			this.count = 0;
+			this.totalTime = 0;
+			this.maximumTime = 0;
+			Arrays.fill(this.histogram, 0);
+		}
+
+		/**
+		 * Returns the name of this group.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the amount of times a tick of this group has executed.
+		 *
+		 * @return the invocation count
+		 */
+		public synchronized long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds every execution of this group took
+		 * combined.
+		 *
+		 * @return the total execution time
+		 */
+		public synchronized long getTotalTime() {
+			return totalTime;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds the longest execution of this group took.
+		 *
+		 * @return the maximum execution time
+		 */
+		public synchronized long getMaximumTime() {
+			return maximumTime;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds an execution of this group takes on
+		 * average.
+		 *
+		 * @return the mean execution time
+		 */
+		public synchronized long getMeanTime() {
+			return this.count == 0 ? 0 : this.totalTime / this.count;
+		}
+
+		/**
+		 * Returns the amount of nanoseconds the given fraction of executions of this
+		 * group took at most. The value is the upper bound of the histogram bucket the
+		 * fraction falls within, so it is accurate to within a factor of two.
+		 *
+		 * @param fraction the fraction of executions, such as 0.99
+		 * @return the upper bound of the execution time
+		 */
+		public synchronized long getPercentile(double fraction) {
+			final long threshold = (long) Math.ceil(this.count * Math.min(1, Math.max(0, fraction)));
+			long seen = 0;
+			for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+				seen += this.histogram[bucket];
+				if (seen >= threshold && seen > 0) return 1L << (bucket + 10);
+			}
+			return this.maximumTime;
+		}
+
+		/**
+		 * Copies the histogram of this group into the given array. Bucket 0 counts
+		 * executions under 1 microsecond, and bucket {@code n} counts executions under
+		 * {@code 2^n} microseconds which did not fall within an earlier bucket.
+		 *
+		 * @param buckets the array to copy into, of at least
+		 *                {@link TickProfiler#HISTOGRAM_BUCKETS} length
+		 */
+		public synchronized void getHistogram(long[] buckets) {
+			System.arraycopy(this.histogram, 0, buckets, 0, HISTOGRAM_BUCKETS);
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("%s: count=%d, total=%.3fms, mean=%.1fus, p99<=%.1fus, max=%.1fus", name, count, totalTime / 1e6, getMeanTime() / 1e3, getPercentile(0.99) / 1e3, maximumTime / 1e3);
+		}
+	}
+
+	private final ObjectMap<String, Group> groups;
+	private final Array<Group> sorted; // the reusable array used to sort the groups
+	private final Array<Group> logged; // the reusable array of groups being logged
+	private float logInterval; // the seconds between every log dump, 0 for no dumps
+	private int logCount; // the amount of top groups logged every dump
+	private float timeSinceLog; // the seconds since the last log dump
+
+	/**
+	 * Constructs a new, empty {@code TickProfiler}.
+	 */
+	TickProfiler() {
+		this.groups = new ObjectMap<>();
+		this.sorted = new Array<>(false, 16, Group.class);
+		this.logged = new Array<>(false, 16, Group.class);
+	}
+
+	/**
+	 * Records a single execution of the given {@code tick} taking the given amount
+	 * of nanoseconds.
+	 *
+	 * @param tick  the tick executed
+	 * @param nanos the nanoseconds the execution took
+	 */
+	void record(Tick tick, long nanos) {
+		Group group = tick.profile;
+		if (Objects.isNull(group) || group.profiler != this) {
+			group = tick.profile = this.getGroup(tick.getGroup());
+		}
+		group.record(nanos);
+	}
+
+	/**
+	 * Advances the time since the last log dump by the given delta, and logs the
+	 * top groups once the log interval has passed.
+	 *
+	 * @param delta the time between updates
+	 */
+	void update(float delta) {
+		if (this.logInterval <= 0) return;
+
+		this.timeSinceLog += delta;
+		if (this.timeSinceLog >= this.logInterval) {
+			this.timeSinceLog = 0;
+			this.log(this.logCount);
+		}
+	}
+
+	/**
+	 * Returns the group with the given name, creating it if it does not exist.
+	 *
+	 * @param name the name of the group
+	 * @return the group
+	 */
+	private synchronized Group getGroup(String name) {
+		Group group = this.groups.get(name);
+		if (Objects.isNull(group)) {
+			group = new Group(this, name);
+			this.groups.put(name, group);
+		}
+		return group;
+	}
+
+	/**
+	 * Fills the given {@code out} array with the given amount of groups which have
+	 * taken the most execution time, longest first.
+	 *
+	 * @param count the amount of groups to return
+	 * @param out   the array to fill, which is cleared first
+	 * @return the given out array
+	 */
+	public synchronized Array<Group> getTop(int count, Array<Group> out) {
+		this.sorted.clear();
+		for (Group group : this.groups.values()) {
+			this.sorted.add(group);
+		}
+		this.sorted.sort(TOTAL_TIME_ORDER);
+
+		out.clear();
+		for (int index = 0; index < Math.min(count, this.sorted.size); index++) {
+			out.add(this.sorted.get(index));
+		}
+		return out;
+	}
+
+	/**
+	 * Logs the given amount of groups which have taken the most execution time.
+	 *
+	 * @param count the amount of groups to log
+	 */
+	public synchronized void log(int count) {
+		this.getTop(count, this.logged);
+		Gdx.app.log("Tick Profiler", "Top " + this.logged.size + " of " + this.groups.size + " tick groups by total time:");
+		for (int index = 0; index < this.logged.size; index++) {
+			Gdx.app.log("Tick Profiler", this.logged.get(index).toString());
+		}
+	}
+
+	/**
+	 * Sets this profiler to log the given amount of top groups every time the given
+	 * amount of seconds has passed. An interval of 0 or less stops the logging.
+	 *
+	 * @param seconds the seconds between every log dump
+	 * @param count   the amount of groups to log
+	 */
+	public void setLogInterval(float seconds, int count) {
+		this.logInterval = seconds;
+		this.logCount = count;
+		this.timeSinceLog = 0;
+	}
+
+	/**
+	 * Clears the recorded executions of every group of this profiler.
+	 */
+	public synchronized void clear() {
+		for (Group group : this.groups.values()) {
+			group.clear();
+		}
+	}
+
+}
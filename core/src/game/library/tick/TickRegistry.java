@@ -0,0 +1,110 @@
+package game.library.tick;
+
+import java.util.Objects;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * This class maps the actions of {@code Tick} objects to stable integer keys.
+ * A snapshot of a {@code TickPool} cannot hold the actions of its ticks, so it
+ * holds their keys instead, and the same registry is used to find the actions
+ * again once the snapshot is restored. The keys must therefore stay the same
+ * between the game that writes a snapshot and the game that reads it.
+ *
+ * <pre>
+ * TickRegistry registry = new TickRegistry();
+ * registry.register(1, this::regenerateHealth);
+ * registry.register(2, this::spawnWave);
+ * </pre>
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.TickPool#writeSnapshot(java.nio.ByteBuffer,
+ *      TickRegistry)
+ * @see game.library.tick.TickPool#readSnapshot(java.nio.ByteBuffer,
+ *      TickRegistry)
+ */
+public class TickRegistry {
+
+	/**
+	 * The key returned for an action which has not been registered. This key
+	 * cannot be registered itself.
+	 */
+	public static final int UNREGISTERED = Integer.MIN_VALUE;
+
+	private final IntMap<Runnable> actions; // the actions indexed by their key
+	private final ObjectIntMap<Runnable> keys; // the keys indexed by their action
+
+	/**
+	 * Constructs a new, empty {@code TickRegistry}.
+	 */
+	public TickRegistry() {
+		this.actions = new IntMap<>();
+		this.keys = new ObjectIntMap<>();
+	}
+
+	/**
+	 * Registers the given {@code action} under the given {@code key}. The same
+	 * action object must be given to the ticks which are to be saved, since
+	 * actions are looked up by their identity.
+	 *
+	 * @param key    the stable key of the action
+	 * @param action the action
+	 * @return this instance for chaining
+	 * @throws IllegalArgumentException if the key is {@link #UNREGISTERED}, or the
+	 *                                  key or action is already registered
+	 */
+	public TickRegistry register(int key, Runnable action) {
+		Objects.requireNonNull(action, "Cannot register a NULL Tick action");
+		if (key == UNREGISTERED) throw new IllegalArgumentException("The key " + key + " is reserved for unregistered actions");
+		if (this.actions.containsKey(key)) throw new IllegalArgumentException("A Tick action is already registered under the key " + key);
+		if (this.keys.containsKey(action)) throw new IllegalArgumentException("The Tick action is already registered under the key " + this.keys.get(action, UNREGISTERED));
+
+		this.actions.put(key, action);
+		this.keys.put(action, key);
+		return this;
+	}
+
+	/**
+	 * Unregisters the action under the given {@code key}.
+	 *
+	 * @param key the key of the action
+	 * @return the action unregistered; return null if no action was registered
+	 */
+	public Runnable unregister(int key) {
+		final Runnable action = this.actions.remove(key);
+		if (Objects.nonNull(action)) this.keys.remove(action, UNREGISTERED);
+		return action;
+	}
+
+	/**
+	 * Returns the action registered under the given {@code key}.
+	 *
+	 * @param key the key of the action
+	 * @return the action; return null if no action is registered under the key
+	 */
+	public Runnable getAction(int key) {
+		return this.actions.get(key);
+	}
+
+	/**
+	 * Returns the key the given {@code action} is registered under.
+	 *
+	 * @param action the action
+	 * @return the key; return {@link #UNREGISTERED} if the action is not registered
+	 */
+	public int getKey(Runnable action) {
+		return Objects.isNull(action) ? UNREGISTERED : this.keys.get(action, UNREGISTERED);
+	}
+
+	/**
+	 * Returns the amount of actions registered.
+	 *
+	 * @return the amount of actions
+	 */
+	public int size() {
+		return this.actions.size;
+	}
+
+}
@@ -0,0 +1,362 @@
+package game.library.tick;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.badlogic.gdx.utils.Pools;
+
+/**
+ * This class is used for scripting a sequence of timed steps, such as waiting
+ * for a delay, repeating a block of steps, waiting until a condition is met, or
+ * running other sequences alongside this one. A sequence is driven by a single
+ * {@code Tick}, and the step the sequence is on is kept as a program counter,
+ * so no closures are needed to hold the state of the sequence between steps.
+ *
+ * <p>
+ * Both sequences and their steps are pooled. A sequence is freed back into its
+ * pool along with its steps once it has finished or has been cancelled, so
+ * running sequences creates no garbage. A sequence forked from another sequence
+ * belongs to that sequence, and is only freed along with it. Branches still
+ * running when their sequence finishes are cancelled.
+ *
+ * <pre>
+ * TickSequence.create()
+ * 	.action(this::spawnWarning)
+ * 	.delay(2f)
+ * 	.repeat(3)
+ * 		.action(this::spawnMonster)
+ * 		.delay(0.5f)
+ * 	.end()
+ * 	.until(this::allMonstersDead)
+ * 	.action(this::openDoor)
+ * 	.start();
+ * </pre>
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.Tick
+ */
+public class TickSequence implements Poolable {
+
+	private static final int ACTION = 0, DELAY = 1, UNTIL = 2, REPEAT = 3, END = 4, FORK = 5, JOIN = 6;
+
+	/**
+	 * A single step of a {@code TickSequence}.
+	 */
+	static final class Step implements Poolable {
+
+		private int type; // the type of this step
+		private Runnable action; // the action of an action step
+		private float seconds; // the delay of a delay step
+		private BooleanSupplier condition; // the condition of an until step
+		private int times; // the amount of times a repeat step repeats its block
+		private int remaining; // the amount of times left for a repeat step to repeat its block
+		private int jump; // the index of the matching repeat step of an end step
+		private TickSequence branch; // the sequence started by a fork step
+
+		@Override
+		public void reset() {
+			this.action = null;
+			this.condition = null;
+			this.branch = null;
+		}
+	}
+
+	private static final Pool<Step> STEP_POOL = new Pool<Step>() {
+		protected Step newObject() {
+			return new Step();
+		}
+	};
+
+	private final Array<Step> steps; // the steps of this sequence
+	private final IntArray openRepeats; // the indices of repeat steps without a matching end step
+	private final Array<TickSequence> branches; // the forked sequences still running
+	private final Runnable resume; // the action of the tick driving this sequence
+
+	private TickSequence owner; // the sequence this sequence has been forked from
+	private Tick tick; // the tick driving this sequence
+	private int counter; // the index of the step this sequence is on
+	private boolean resuming; // the flag to determine if this sequence is executing its steps
+	private boolean joining; // the flag to determine if this sequence is waiting on its branches
+
+	/**
+	 * Constructs a new, empty {@code TickSequence}. Sequences should be created
+	 * through {@link #create()} so they are reused from their pool.
+	 */
+	public TickSequence() {
+		this.steps = new Array<>(false, 8, Step.class);
+		this.openRepeats = new IntArray(false, 2);
+		this.branches = new Array<>(false, 2, TickSequence.class);
+		this.resume = this::resume;
+	}
+
+	/**
+	 * Creates a new {@code TickSequence} reusing an object from its pool.
+	 *
+	 * @return a reused sequence object
+	 */
+	public static TickSequence create() {
+		return Pools.get(TickSequence.class, Integer.MAX_VALUE).obtain();
+	}
+
+	/**
+	 * Adds a step executing the given {@code action}.
+	 *
+	 * @param action the action to execute
+	 * @return this instance for chaining
+	 */
+	public TickSequence action(Runnable action) {
+		this.add(ACTION).action = Objects.requireNonNull(action, "The action of a TickSequence step cannot be NULL");
+		return this;
+	}
+
+	/**
+	 * Adds a step waiting the given amount of seconds before continuing. A delay of
+	 * 0 waits until the next update.
+	 *
+	 * @param seconds the seconds to wait
+	 * @return this instance for chaining
+	 */
+	public TickSequence delay(float seconds) {
+		this.add(DELAY).seconds = Math.max(0, seconds);
+		return this;
+	}
+
+	/**
+	 * Adds a step waiting until the given {@code condition} is met. The condition
+	 * is checked once every update.
+	 *
+	 * @param condition the condition to wait for
+	 * @return this instance for chaining
+	 */
+	public TickSequence until(BooleanSupplier condition) {
+		this.add(UNTIL).condition = Objects.requireNonNull(condition, "The condition of a TickSequence step cannot be NULL");
+		return this;
+	}
+
+	/**
+	 * Begins a block of steps which is repeated the given amount of times. The
+	 * block is closed by {@link #end()}. If the amount of times is 0 or less, then
+	 * the block is repeated until the sequence is cancelled, waiting until the next
+	 * update between every repetition.
+	 *
+	 * @param times the amount of times to repeat the block
+	 * @return this instance for chaining
+	 */
+	public TickSequence repeat(int times) {
+		this.openRepeats.add(this.steps.size);
+		this.add(REPEAT).times = times;
+		return this;
+	}
+
+	/**
+	 * Closes the block of steps begun by the last {@link #repeat(int)}.
+	 *
+	 * @return this instance for chaining
+	 * @throws IllegalStateException if there is no block to close
+	 */
+	public TickSequence end() {
+		if (this.openRepeats.size == 0) throw new IllegalStateException("There is no TickSequence repeat block to end");
+
+		this.add(END).jump = this.openRepeats.pop();
+		return this;
+	}
+
+	/**
+	 * Adds a step starting the given {@code branch} sequence alongside this one.
+	 * This sequence continues immediately, and {@link #join()} can be used to wait
+	 * until every branch has finished. The branch belongs to this sequence from
+	 * then on, and is freed along with this sequence.
+	 *
+	 * @param branch the sequence to run alongside this one
+	 * @return this instance for chaining
+	 * @throws IllegalArgumentException if the branch already belongs to a sequence
+	 */
+	public TickSequence fork(TickSequence branch) {
+		if (Objects.requireNonNull(branch, "The branch of a TickSequence cannot be NULL") == this) {
+			throw new IllegalArgumentException("A TickSequence cannot be forked from itself");
+		}
+		if (Objects.nonNull(branch.owner)) throw new IllegalArgumentException("The TickSequence branch has already been forked");
+
+		branch.owner = this;
+		this.add(FORK).branch = branch;
+		return this;
+	}
+
+	/**
+	 * Adds a step waiting until every branch forked by this sequence has finished.
+	 *
+	 * @return this instance for chaining
+	 */
+	public TickSequence join() {
+		this.add(JOIN);
+		return this;
+	}
+
+	/**
+	 * Starts this {@code TickSequence}. The first steps are executed on the next
+	 * update of the {@code TickPool}.
+	 *
+	 * @throws IllegalStateException if this sequence is already running or has a
+	 *                               repeat block without an end
+	 */
+	public void start() {
+		if (Objects.nonNull(this.tick)) throw new IllegalStateException("This TickSequence is already running");
+		if (this.openRepeats.size > 0) throw new IllegalStateException("A TickSequence repeat block was not ended");
+
+		this.counter = 0;
+		this.tick = Tick.build(this.resume, 0);
+		this.tick.start();
+	}
+
+	/**
+	 * Cancels this {@code TickSequence} along with every branch it has forked. The
+	 * sequence is freed back into its pool unless it is a branch of another
+	 * sequence, so it must not be used after being cancelled.
+	 */
+	public void cancel() {
+		if (Objects.isNull(this.tick)) return;
+
+		if (this.resuming) {
+			this.counter = this.steps.size; // the sequence finishes once the current step returns
+		} else {
+			this.finish();
+		}
+	}
+
+	/**
+	 * Returns true if this {@code TickSequence} is running.
+	 *
+	 * @return true if running; return false otherwise
+	 */
+	public boolean isRunning() {
+		return Objects.nonNull(this.tick);
+	}
+
+	/**
+	 * Executes the steps of this sequence from the program counter until a step
+	 * has to wait, or until the sequence has finished.
+	 */
+	private void resume() {
+		this.resuming = true;
+		try {
+			while (this.counter < this.steps.size) {
+				final Step step = this.steps.get(this.counter);
+				switch (step.type) {
+				case ACTION:
+					this.counter++;
+					step.action.run();
+					break;
+				case DELAY:
+					this.counter++;
+					this.tick.delay(step.seconds);
+					return;
+				case UNTIL:
+					if (!step.condition.getAsBoolean()) {
+						this.tick.delay(0);
+						return;
+					}
+					this.counter++;
+					break;
+				case REPEAT:
+					step.remaining = step.times;
+					this.counter++;
+					break;
+				case END:
+					final Step repeat = this.steps.get(step.jump);
+					if (repeat.times <= 0) {
+						this.counter = step.jump + 1;
+						this.tick.delay(0);
+						return;
+					}
+					if (--repeat.remaining > 0) {
+						this.counter = step.jump + 1;
+					} else {
+						this.counter++;
+					}
+					break;
+				case FORK:
+					this.counter++;
+					step.branch.start();
+					this.branches.add(step.branch);
+					break;
+				case JOIN:
+					if (this.branches.size > 0) {
+						this.joining = true;
+						this.tick.park(); // the sequence is unparked as soon as its last branch finishes
+						return;
+					}
+					this.counter++;
+					break;
+				}
+			}
+		} finally {
+			this.resuming = false;
+		}
+		this.finish();
+	}
+
+	/**
+	 * Stops the tick driving this sequence and cancels every branch still running.
+	 * If this sequence is a branch, then the sequence it belongs to is notified,
+	 * otherwise this sequence is freed back into its pool.
+	 */
+	private void finish() {
+		while (this.branches.size > 0) {
+			this.branches.pop().cancel();
+		}
+		this.tick.stop();
+		this.tick = null;
+
+		final TickSequence owner = this.owner;
+		if (Objects.isNull(owner)) {
+			Pools.free(this);
+			return;
+		}
+		if (owner.branches.removeValue(this, true) && owner.joining && owner.branches.size == 0) {
+			owner.joining = false;
+			owner.tick.delay(0);
+			owner.tick.unpark(); // reschedules the owner for the next update
+		}
+	}
+
+	/**
+	 * Adds a new step of the given type to this sequence.
+	 *
+	 * @param type the type of step
+	 * @return the added step
+	 */
+	private Step add(int type) {
+		final Step step = STEP_POOL.obtain();
+		step.type = type;
+		this.steps.add(step);
+		return step;
+	}
+
+	/**
+	 * Resets the object for reuse. Object references should be nulled and fields
+	 * may be set to default values.
+	 */
+	public void reset() {
+		for (int index = 0; index < this.steps.size; index++) {
+			final Step step = this.steps.get(index);
+			if (step.type == FORK) {
+				step.branch.owner = null;
+				Pools.free(step.branch);
+			}
+		}
+		STEP_POOL.freeAll(this.steps);
+		this.steps.clear();
+		this.openRepeats.clear();
+		this.branches.clear();
+		this.owner = null;
+		this.tick = null;
+		this.counter = 0;
+		this.joining = false;
+	}
+
+}
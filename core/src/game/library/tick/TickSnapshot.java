@@ -0,0 +1,252 @@
+package game.library.tick;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * This class writes the scheduled ticks of a {@code TickPool} into a compact
+ * binary snapshot, and restores them from it. Every tick is written as a fixed
+ * size record holding the key of its action, the seconds until it is due, its
+ * delay, its occurrences, and its parallel flag and priority. The records are
+ * read and written straight from the slots of the timing wheel, so no object is
+ * created for any tick while writing.
+ *
+ * <p>
+ * Only ticks with an action registered within the {@code TickRegistry} are
+ * written. The group of a tick and any runs a deferrable tick is waiting on are
+ * not saved, so a snapshot is best taken between updates.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.TickRegistry
+ */
+final class TickSnapshot {
+
+	private static final int MAGIC = 0x5449434B; // the bytes "TICK"
+	private static final byte VERSION = 1;
+
+	/**
+	 * The size, in bytes, of the header holding the magic, version and tick count.
+	 */
+	static final int HEADER_SIZE = 4 + 1 + 4;
+
+	/**
+	 * The size, in bytes, of the record of a single tick.
+	 */
+	static final int RECORD_SIZE = 4 + 4 + 4 + 2 + 1;
+
+	private TickSnapshot() {
+		throw new UnsupportedOperationException("TickSnapshot is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Returns the amount of ticks within the given {@code wheel} that would be
+	 * written into a snapshot.
+	 *
+	 * @param wheel    the wheel to count
+	 * @param registry the registry of actions
+	 * @return the amount of ticks
+	 */
+	static int count(TickWheel wheel, TickRegistry registry) {
+		int count = 0;
+		for (int index = 0; index < wheel.getSlotCount(); index++) {
+			for (Tick tick = wheel.getHead(index); tick != null; tick = tick.next) {
+				if (isSaved(tick, registry)) count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Writes the snapshot of the given {@code wheel} into the given {@code buffer}.
+	 *
+	 * @param wheel    the wheel to write
+	 * @param registry the registry of actions
+	 * @param buffer   the buffer to write into
+	 * @return the amount of ticks written
+	 * @throws BufferOverflowException if the buffer does not have enough room left,
+	 *                                 in which case nothing is written
+	 */
+	static int write(TickWheel wheel, TickRegistry registry, ByteBuffer buffer) {
+		final int count = count(wheel, registry);
+		if (buffer.remaining() < HEADER_SIZE + (long) count * RECORD_SIZE) throw new BufferOverflowException();
+
+		writeHeader(buffer, count);
+		for (int index = 0; index < wheel.getSlotCount(); index++) {
+			for (Tick tick = wheel.getHead(index); tick != null; tick = tick.next) {
+				if (isSaved(tick, registry)) writeRecord(wheel, registry, buffer, tick);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Writes the snapshot of the given {@code wheel} into the given
+	 * {@code channel}, using the given {@code buffer} to hold the records before
+	 * they are written.
+	 *
+	 * @param wheel    the wheel to write
+	 * @param registry the registry of actions
+	 * @param channel  the channel to write into
+	 * @param buffer   the buffer to hold the records within
+	 * @return the amount of ticks written
+	 * @throws IOException if the channel cannot be written to
+	 */
+	static int write(TickWheel wheel, TickRegistry registry, WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+		checkCapacity(buffer);
+
+		final int count = count(wheel, registry);
+		buffer.clear();
+		writeHeader(buffer, count);
+		for (int index = 0; index < wheel.getSlotCount(); index++) {
+			for (Tick tick = wheel.getHead(index); tick != null; tick = tick.next) {
+				if (!isSaved(tick, registry)) continue;
+
+				if (buffer.remaining() < RECORD_SIZE) flush(channel, buffer);
+				writeRecord(wheel, registry, buffer, tick);
+			}
+		}
+		flush(channel, buffer);
+		return count;
+	}
+
+	/**
+	 * Restores the ticks of the snapshot within the given {@code buffer} into the
+	 * given {@code pool}. Records with a key that is not registered are skipped.
+	 *
+	 * @param pool     the pool to restore the ticks into
+	 * @param wheel    the wheel of the pool
+	 * @param registry the registry of actions
+	 * @param buffer   the buffer to read from
+	 * @return the amount of ticks restored
+	 * @throws IllegalArgumentException if the buffer does not hold a snapshot
+	 */
+	static int read(TickPool pool, TickWheel wheel, TickRegistry registry, ByteBuffer buffer) {
+		final int count = readHeader(buffer);
+		int restored = 0;
+		for (int record = 0; record < count; record++) {
+			if (readRecord(pool, wheel, registry, buffer)) restored++;
+		}
+		return restored;
+	}
+
+	/**
+	 * Restores the ticks of the snapshot within the given {@code channel} into the
+	 * given {@code pool}, using the given {@code buffer} to hold the records once
+	 * they have been read. No bytes past the end of the snapshot are read from the
+	 * channel.
+	 *
+	 * @param pool     the pool to restore the ticks into
+	 * @param wheel    the wheel of the pool
+	 * @param registry the registry of actions
+	 * @param channel  the channel to read from
+	 * @param buffer   the buffer to hold the records within
+	 * @return the amount of ticks restored
+	 * @throws IOException if the channel cannot be read or ends before the
+	 *                     snapshot does
+	 */
+	static int read(TickPool pool, TickWheel wheel, TickRegistry registry, ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		checkCapacity(buffer);
+
+		buffer.clear().flip(); // an empty buffer ready for reading
+		fill(channel, buffer, HEADER_SIZE, HEADER_SIZE);
+		final int count = readHeader(buffer);
+
+		long left = (long) count * RECORD_SIZE; // the bytes of the snapshot not yet read from the channel
+		int restored = 0;
+		for (int record = 0; record < count; record++) {
+			if (buffer.remaining() < RECORD_SIZE) left -= fill(channel, buffer, RECORD_SIZE, left);
+			if (readRecord(pool, wheel, registry, buffer)) restored++;
+		}
+		return restored;
+	}
+
+	/**
+	 * Returns true if the given {@code tick} is written into a snapshot.
+	 */
+	private static boolean isSaved(Tick tick, TickRegistry registry) {
+		return !tick.isStopped() && registry.getKey(tick.getAction()) != TickRegistry.UNREGISTERED;
+	}
+
+	private static void writeHeader(ByteBuffer buffer, int count) {
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		buffer.putInt(count);
+	}
+
+	private static int readHeader(ByteBuffer buffer) {
+		if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) throw new IllegalArgumentException("The buffer does not hold a Tick snapshot");
+
+		final byte version = buffer.get();
+		if (version != VERSION) throw new IllegalArgumentException("The Tick snapshot version " + version + " is not supported");
+
+		final int count = buffer.getInt();
+		if (count < 0) throw new IllegalArgumentException("The Tick snapshot is corrupt");
+		return count;
+	}
+
+	private static void writeRecord(TickWheel wheel, TickRegistry registry, ByteBuffer buffer, Tick tick) {
+		buffer.putInt(registry.getKey(tick.getAction()));
+		buffer.putFloat(wheel.toSeconds(tick.due - wheel.getCurrentTime()));
+		buffer.putFloat(tick.getDelay());
+		buffer.putShort(tick.getOccurences());
+		buffer.put((byte) ((tick.getPriority().ordinal() << 1) | (tick.isParallel() ? 1 : 0)));
+	}
+
+	private static boolean readRecord(TickPool pool, TickWheel wheel, TickRegistry registry, ByteBuffer buffer) {
+		final Runnable action = registry.getAction(buffer.getInt());
+		final float remaining = buffer.getFloat();
+		final float delay = buffer.getFloat();
+		final short occurences = buffer.getShort();
+		final int flags = buffer.get();
+		if (Objects.isNull(action)) return false;
+
+		final TickPriority[] priorities = TickPriority.VALUES;
+		final Tick tick = pool.obtain().action(action).delay(delay).parallel((flags & 1) != 0).priority(priorities[Math.min(flags >>> 1, priorities.length - 1)]);
+		tick.restore(pool, occurences);
+		wheel.scheduleAt(tick, wheel.getCurrentTime() + Math.max(1, wheel.toUnits(remaining)));
+		return true;
+	}
+
+	/**
+	 * Writes the bytes within the given {@code buffer} into the given
+	 * {@code channel}, and clears the buffer for writing.
+	 */
+	private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Reads from the given {@code channel} until the given {@code buffer} holds at
+	 * least the given amount of bytes, reading no more than the given amount left
+	 * within the snapshot. The buffer is left ready for reading.
+	 *
+	 * @return the amount of bytes read
+	 */
+	private static int fill(ReadableByteChannel channel, ByteBuffer buffer, int bytes, long left) throws IOException {
+		buffer.compact();
+		buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + left));
+
+		final int start = buffer.position();
+		while (buffer.position() < bytes) {
+			if (channel.read(buffer) < 0) throw new EOFException("The Tick snapshot ended before it was complete");
+		}
+		final int read = buffer.position() - start;
+		buffer.flip();
+		return read;
+	}
+
+	private static void checkCapacity(ByteBuffer buffer) {
+		if (buffer.capacity() < Math.max(HEADER_SIZE, RECORD_SIZE)) throw new IllegalArgumentException("The buffer of a Tick snapshot must hold at least " + Math.max(HEADER_SIZE, RECORD_SIZE) + " bytes");
+	}
+
+}
@@ -0,0 +1,297 @@
+package game.library.tick;
+
+/**
+ * This class is a hierarchical timing wheel used by the {@code TickPool} to
+ * schedule {@code Tick} objects. Time is measured in units of the wheel's
+ * resolution, and every level of the wheel holds 64 slots with each slot
+ * covering 64 times the span of a slot on the level below it. Ticks are linked
+ * into the slots through their own fields, so adding and removing a tick is
+ * constant time and advancing the wheel only touches the ticks that are due.
+ *
+ * @author Albert Beaupre
+ *
+ * @see game.library.tick.Tick
+ * @see game.library.tick.TickPool
+ */
+final class TickWheel {
+
+	private static final int SLOT_BITS = 6; // the amount of bits used to index a slot within a level
+	private static final int SLOTS = 1 << SLOT_BITS; // the amount of slots for each level
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = 6; // the amount of levels within the wheel
+	private static final long MAXIMUM_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1; // the furthest a tick can be scheduled ahead
+	private static final double ROUNDING_TOLERANCE = 1e-4; // the fraction of a unit ignored when converting the elapsed seconds to units
+
+	private final Tick[] slots; // the head of the tick list for each slot of every level
+	private final long[] occupied; // a bit mask for each level flagging which slots contain ticks
+	private final float resolution; // the amount of seconds for each unit of time
+	private final TickPool pool; // the pool due ticks are dispatched to
+
+	private double elapsed; // the total amount of seconds this wheel has advanced
+	private long currentTime; // the time, in units, which has been processed
+	private int size; // the amount of ticks scheduled
+
+	/**
+	 * Constructs a new {@code TickWheel} with the given resolution. The resolution
+	 * is the amount of seconds for each unit of time in the wheel, so ticks are
+	 * executed within this amount of seconds of their delay.
+	 *
+	 * @param resolution the seconds for each unit of time
+	 * @param pool       the pool due ticks are dispatched to
+	 * @throws IllegalArgumentException if the resolution is not positive
+	 */
+	TickWheel(float resolution, TickPool pool) {
+		if (resolution <= 0) throw new IllegalArgumentException("The resolution of a TickWheel must be positive");
+		this.resolution = resolution;
+		this.pool = pool;
+		this.slots = new Tick[LEVELS * SLOTS];
+		this.occupied = new long[LEVELS];
+	}
+
+	/**
+	 * Advances this {@code TickWheel} by the given delta and executes every tick
+	 * that becomes due. Ticks that are still running after their execution are
+	 * scheduled again with their delay starting from the time they were due, so a
+	 * tick is executed once for every period that has elapsed within the delta. A
+	 * tick without a delay is executed once for every advance.
+	 *
+	 * @param delta the time between frames
+	 */
+	void advance(float delta) {
+		this.elapsed += delta;
+		final long target = (long) (this.elapsed / this.resolution + ROUNDING_TOLERANCE);
+
+		while (this.currentTime < target) {
+			if (this.size == 0) { // nothing is scheduled, so there is nothing to step through
+				this.currentTime = target;
+				break;
+			}
+
+			/**
+			 * Find the next occupied slot on the first level, or the point where the first
+			 * level rotates and the higher levels must be cascaded
+			 */
+			final int index = (int) (this.currentTime & SLOT_MASK);
+			final long ahead = index == SLOT_MASK ? 0 : this.occupied[0] & (-1L << (index + 1));
+			final long next = ahead != 0 ? (this.currentTime & ~SLOT_MASK) + Long.numberOfTrailingZeros(ahead) : (this.currentTime | SLOT_MASK) + 1;
+
+			if (next > target) {
+				this.currentTime = target;
+				break;
+			}
+			this.currentTime = next;
+
+			if ((next & SLOT_MASK) == 0) this.cascade(1);
+
+			this.expire((int) (next & SLOT_MASK), target);
+		}
+	}
+
+	/**
+	 * Schedules the given {@code tick} to be executed once its delay has passed
+	 * from the current time of this wheel.
+	 *
+	 * @param tick the tick to schedule
+	 */
+	void schedule(Tick tick) {
+		this.schedule(tick, this.currentTime);
+	}
+
+	/**
+	 * Schedules the given {@code tick} to be executed once its delay has passed
+	 * from the given {@code start} time. The tick will never be scheduled for the
+	 * start time itself or a time that has already been processed.
+	 *
+	 * @param tick  the tick to schedule
+	 * @param start the time, in units, the delay starts from
+	 */
+	void schedule(Tick tick, long start) {
+		tick.periodStart = start;
+		this.insert(tick, Math.max(start + this.toUnits(tick.getDelay()), Math.max(start, this.currentTime) + 1));
+	}
+
+	/**
+	 * Schedules the given {@code tick} to be executed at the given {@code due}
+	 * time, as if its current period had started one delay before it. This is used
+	 * when a tick is restored from a snapshot.
+	 *
+	 * @param tick the tick to schedule
+	 * @param due  the time, in units, the tick is due
+	 */
+	void scheduleAt(Tick tick, long due) {
+		tick.periodStart = due - this.toUnits(tick.getDelay());
+		this.insert(tick, Math.max(due, this.currentTime + 1));
+	}
+
+	/**
+	 * Schedules the given {@code tick} again with its current delay, keeping the
+	 * time its current period started from. This is used when the delay of a
+	 * scheduled tick has been changed.
+	 *
+	 * @param tick the tick to reschedule
+	 */
+	void reschedule(Tick tick) {
+		this.remove(tick);
+		this.schedule(tick, tick.periodStart);
+	}
+
+	/**
+	 * Removes the given {@code tick} from this wheel if it is scheduled.
+	 *
+	 * @param tick the tick to remove
+	 */
+	void remove(Tick tick) {
+		if (!tick.scheduled) return;
+
+		final int index = tick.wheelIndex;
+		if (tick.previous != null) {
+			tick.previous.next = tick.next;
+		} else {
+			this.slots[index] = tick.next;
+			if (tick.next == null) this.occupied[index >>> SLOT_BITS] &= ~(1L << (index & SLOT_MASK));
+		}
+		if (tick.next != null) tick.next.previous = tick.previous;
+
+		tick.next = null;
+		tick.previous = null;
+		tick.scheduled = false;
+		this.size--;
+	}
+
+	/**
+	 * Returns the amount of ticks scheduled within this wheel.
+	 *
+	 * @return the amount of scheduled ticks
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the amount of slots within this wheel, across every level.
+	 *
+	 * @return the amount of slots
+	 */
+	int getSlotCount() {
+		return this.slots.length;
+	}
+
+	/**
+	 * Returns the first tick linked into the slot at the given index. The other
+	 * ticks within the slot follow through their {@code next} field.
+	 *
+	 * @param index the slot index
+	 * @return the first tick; return null if the slot is empty
+	 */
+	Tick getHead(int index) {
+		return this.slots[index];
+	}
+
+	/**
+	 * Returns the time, in units, which this wheel has processed up to.
+	 *
+	 * @return the current time
+	 */
+	long getCurrentTime() {
+		return this.currentTime;
+	}
+
+	/**
+	 * Converts the given amount of seconds to the units of this wheel. The units
+	 * are counted in double precision and clamped to the furthest a tick can be
+	 * scheduled ahead, so a long delay never wraps or saturates early.
+	 *
+	 * @param seconds the seconds to convert
+	 * @return the amount of units
+	 */
+	long toUnits(float seconds) {
+		return (long) Math.max(0, Math.min(MAXIMUM_SPAN, Math.rint((double) seconds / this.resolution)));
+	}
+
+	/**
+	 * Converts the given amount of units of this wheel to seconds.
+	 *
+	 * @param units the units to convert
+	 * @return the amount of seconds
+	 */
+	float toSeconds(long units) {
+		return units * this.resolution;
+	}
+
+	/**
+	 * Executes every tick within the slot of the first level at the given index.
+	 * Ticks are removed from the slot one at a time, so an action can safely stop
+	 * or reschedule any other tick while the slot is being processed. Each tick is
+	 * dispatched to the pool, which decides whether it is executed straight away.
+	 *
+	 * @param index  the slot index
+	 * @param target the time this advance ends at
+	 */
+	private void expire(int index, long target) {
+		Tick tick;
+		while ((tick = this.slots[index]) != null) {
+			this.remove(tick);
+			this.pool.dispatch(tick);
+
+			if (!tick.isStopped() && !tick.scheduled && !tick.parked) {
+				this.schedule(tick, this.toUnits(tick.getDelay()) == 0 ? target : tick.due);
+			}
+		}
+	}
+
+	/**
+	 * Moves every tick within the current slot of the given level down to the
+	 * lower levels. If the slot index of this level is 0, then the level above it
+	 * is cascaded first.
+	 *
+	 * @param level the level to cascade
+	 */
+	private void cascade(int level) {
+		if (level >= LEVELS) return;
+
+		final int shift = level * SLOT_BITS;
+		final int index = (int) ((this.currentTime >>> shift) & SLOT_MASK);
+		if (index == 0) this.cascade(level + 1);
+
+		final int slot = (level << SLOT_BITS) + index;
+		Tick tick;
+		while ((tick = this.slots[slot]) != null) {
+			this.remove(tick);
+			this.insert(tick, tick.due);
+		}
+	}
+
+	/**
+	 * Links the given {@code tick} into the slot covering the given {@code due}
+	 * time.
+	 *
+	 * @param tick the tick to insert
+	 * @param due  the time, in units, the tick is due
+	 */
+	private void insert(Tick tick, long due) {
+		long span = due - this.currentTime;
+		if (span > MAXIMUM_SPAN) {
+			span = MAXIMUM_SPAN;
+			due = this.currentTime + span;
+		}
+
+		int level = 0;
+		while (level < LEVELS - 1 && span >= (1L << ((level + 1) * SLOT_BITS))) {
+			level++;
+		}
+
+		final int index = (level << SLOT_BITS) + (int) ((due >>> (level * SLOT_BITS)) & SLOT_MASK);
+		final Tick head = this.slots[index];
+		tick.next = head;
+		tick.previous = null;
+		if (head != null) head.previous = tick;
+		this.slots[index] = tick;
+		this.occupied[level] |= 1L << (index & SLOT_MASK);
+
+		tick.due = due;
+		tick.wheelIndex = index;
+		tick.scheduled = true;
+		this.size++;
+	}
+
+}
@@ -0,0 +1,307 @@
+package game.library.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * This annotation processor generates a {@code GameEventDispatcher} for every
+ * {@code GameEventListener} class with a {@code GameEventMethod}. The
+ * dispatcher calls the event methods of the listener through lambdas compiled
+ * into it, so the {@code GameEventManager} can register the listener without
+ * scanning it through reflection. Every generated dispatcher is listed as a
+ * service within {@code META-INF/services}, which is how the manager finds it.
+ * 
+ * <p>
+ * The same methods are picked as the manager would pick at runtime, being the
+ * public methods with a single event parameter, including the inherited ones.
+ * A listener which cannot be reached from a class within its own package, such
+ * as a private or anonymous class, is given no dispatcher and is scanned at
+ * runtime instead.
+ * 
+ * <p>
+ * The processor is enabled by adding this project as an annotation processor
+ * of the project holding the listeners:
+ * 
+ * <pre>
+ * annotationProcessor project(":processor")
+ * </pre>
+ * 
+ * @author Albert Beaupre
+ */
+@SupportedAnnotationTypes(GameEventProcessor.EVENT_METHOD)
+public class GameEventProcessor extends AbstractProcessor {
+
+	static final String EVENT_METHOD = "game.library.event.GameEventMethod";
+	private static final String EVENT = "game.library.event.GameEvent";
+	private static final String LISTENER = "game.library.event.GameEventListener";
+	private static final String DISPATCHER = "game.library.event.GameEventDispatcher";
+	private static final String INVOKER = "game.library.event.EventInvoker";
+	private static final String SUFFIX = "_GameEventDispatcher";
+
+	private final Set<String> dispatchers = new TreeSet<>(); // the names of every dispatcher generated
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (roundEnvironment.processingOver()) {
+			this.writeServices();
+			return false;
+		}
+
+		final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(EVENT_METHOD);
+		if (annotation == null) return false;
+
+		final Set<TypeElement> listeners = new LinkedHashSet<>();
+		for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+			if (element.getKind() != ElementKind.METHOD) continue;
+
+			final TypeElement listener = (TypeElement) element.getEnclosingElement();
+			if (listener.getKind() == ElementKind.CLASS) listeners.add(listener);
+			this.checkMethod((ExecutableElement) element);
+		}
+		for (TypeElement listener : listeners) {
+			this.generate(listener);
+		}
+		return false;
+	}
+
+	/**
+	 * Warns about the given event {@code method} if it will never be called.
+	 * 
+	 * @param method the annotated method
+	 */
+	private void checkMethod(ExecutableElement method) {
+		if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+			processingEnv.getMessager().printMessage(Kind.WARNING, "A GameEventMethod must be a public instance method to be called", method);
+		} else if (method.getParameters().size() != 1) {
+			processingEnv.getMessager().printMessage(Kind.WARNING, "A GameEventMethod must have a single event parameter to be called", method);
+		}
+	}
+
+	/**
+	 * Generates the dispatcher of the given {@code listener} class.
+	 * 
+	 * @param listener the listener class
+	 */
+	private void generate(TypeElement listener) {
+		final TypeElement listenerType = processingEnv.getElementUtils().getTypeElement(LISTENER);
+		if (listenerType == null || !processingEnv.getTypeUtils().isAssignable(listener.asType(), processingEnv.getTypeUtils().erasure(listenerType.asType()))) return;
+
+		final String packageName = this.getPackage(listener).getQualifiedName().toString();
+		if (!this.isReachable(listener, packageName)) {
+			this.note(listener, "it cannot be reached from its package");
+			return;
+		}
+
+		final List<ExecutableElement> methods = new ArrayList<>();
+		for (Element member : processingEnv.getElementUtils().getAllMembers(listener)) {
+			if (member.getKind() != ElementKind.METHOD || !this.isEventMethod((ExecutableElement) member)) continue;
+
+			final TypeElement eventType = this.getEventType((ExecutableElement) member);
+			if (eventType == null) continue;
+			if (!this.isReachable(eventType, packageName)) {
+				this.note(listener, "the event " + eventType.getQualifiedName() + " cannot be reached from its package");
+				return;
+			}
+			methods.add((ExecutableElement) member);
+		}
+
+		final String binaryName = processingEnv.getElementUtils().getBinaryName(listener).toString();
+		final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+		final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		try {
+			final FileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, listener);
+			try (Writer writer = file.openWriter()) {
+				writer.write(this.write(listener, packageName, simpleName, methods));
+			}
+			this.dispatchers.add(qualifiedName);
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write the GameEventDispatcher " + qualifiedName + ": " + e.getMessage(), listener);
+		}
+	}
+
+	/**
+	 * Writes the source of a dispatcher.
+	 * 
+	 * @param listener    the listener class
+	 * @param packageName the package of the listener
+	 * @param simpleName  the simple name of the dispatcher
+	 * @param methods     the event methods of the listener
+	 * @return the source of the dispatcher
+	 */
+	private String write(TypeElement listener, String packageName, String simpleName, List<ExecutableElement> methods) {
+		final String listenerName = listener.getQualifiedName().toString();
+		final StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+
+		source.append("/**\n * The generated dispatcher of the event methods of {@code ").append(listenerName).append("}.\n */\n");
+		source.append("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+		source.append("public final class ").append(simpleName).append(" implements ").append(DISPATCHER).append(" {\n\n");
+
+		source.append("\tprivate static final String[] METHOD_NAMES = {");
+		for (ExecutableElement method : methods) {
+			source.append(" \"").append(method.getSimpleName()).append("\",");
+		}
+		source.append(" };\n");
+
+		source.append("\tprivate static final Class<?>[] EVENT_TYPES = {");
+		for (ExecutableElement method : methods) {
+			source.append(" ").append(this.getEventType(method).getQualifiedName()).append(".class,");
+		}
+		source.append(" };\n");
+
+		source.append("\tprivate static final int[] PRIORITIES = {");
+		for (ExecutableElement method : methods) {
+			source.append(" ").append(this.getPriority(method)).append(",");
+		}
+		source.append(" };\n");
+
+		source.append("\tprivate static final ").append(INVOKER).append("[] INVOKERS = {\n");
+		for (ExecutableElement method : methods) {
+			source.append("\t\t\t(listener, event) -> ((").append(listenerName).append(") listener).").append(method.getSimpleName());
+			source.append("((").append(this.getEventType(method).getQualifiedName()).append(") event),\n");
+		}
+		source.append("\t};\n\n");
+
+		source.append("\t@Override\n\tpublic Class<?> getListenerClass() {\n\t\treturn ").append(listenerName).append(".class;\n\t}\n\n");
+		source.append("\t@Override\n\tpublic int getMethodCount() {\n\t\treturn METHOD_NAMES.length;\n\t}\n\n");
+		source.append("\t@Override\n\tpublic String getMethodName(int index) {\n\t\treturn METHOD_NAMES[index];\n\t}\n\n");
+		source.append("\t@Override\n\tpublic Class<?> getEventType(int index) {\n\t\treturn EVENT_TYPES[index];\n\t}\n\n");
+		source.append("\t@Override\n\tpublic int getPriority(int index) {\n\t\treturn PRIORITIES[index];\n\t}\n\n");
+		source.append("\t@Override\n\tpublic ").append(INVOKER).append(" getInvoker(int index) {\n\t\treturn INVOKERS[index];\n\t}\n\n");
+		source.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * Lists every generated dispatcher as a service of the dispatcher interface.
+	 */
+	private void writeServices() {
+		if (this.dispatchers.isEmpty()) return;
+
+		try {
+			final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + DISPATCHER);
+			try (Writer writer = file.openWriter()) {
+				for (String dispatcher : this.dispatchers) {
+					writer.write(dispatcher);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not list the GameEventDispatcher services: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns true if the given {@code method} is picked as an event method, being
+	 * a public instance method annotated by {@code GameEventMethod} with a single
+	 * parameter.
+	 * 
+	 * @param method the method
+	 * @return true if an event method; return false otherwise
+	 */
+	private boolean isEventMethod(ExecutableElement method) {
+		if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) return false;
+		if (method.getParameters().size() != 1) return false;
+
+		for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(EVENT_METHOD)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the priority given to the {@code GameEventMethod} annotation of the
+	 * given {@code method}.
+	 * 
+	 * @param method the event method
+	 * @return the priority of the method
+	 */
+	private int getPriority(ExecutableElement method) {
+		for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+			if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(EVENT_METHOD)) continue;
+
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+				if (entry.getKey().getSimpleName().contentEquals("priority")) return (Integer) entry.getValue().getValue();
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the type of event the given {@code method} listens for. The type must
+	 * be an event, or an interface an event could implement.
+	 * 
+	 * @param method the event method
+	 * @return the event type; return null if the method can never receive an event
+	 */
+	private TypeElement getEventType(ExecutableElement method) {
+		final TypeMirror parameter = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+		if (parameter.getKind() != TypeKind.DECLARED) return null;
+
+		final TypeElement type = (TypeElement) ((DeclaredType) parameter).asElement();
+		final TypeElement event = processingEnv.getElementUtils().getTypeElement(EVENT);
+		if (type.getKind() == ElementKind.INTERFACE) return type;
+		if (event != null && processingEnv.getTypeUtils().isAssignable(parameter, event.asType())) return type;
+		return null;
+	}
+
+	/**
+	 * Returns true if the given {@code type} can be referred to by a class within
+	 * the given package.
+	 * 
+	 * @param type        the type
+	 * @param packageName the package of the referring class
+	 * @return true if reachable; return false otherwise
+	 */
+	private boolean isReachable(TypeElement type, String packageName) {
+		final boolean samePackage = this.getPackage(type).getQualifiedName().contentEquals(packageName);
+		for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+			final TypeElement currentType = (TypeElement) current;
+			if (currentType.getNestingKind() == NestingKind.LOCAL || currentType.getNestingKind() == NestingKind.ANONYMOUS) return false;
+			if (currentType.getModifiers().contains(Modifier.PRIVATE)) return false;
+			if (!samePackage && !currentType.getModifiers().contains(Modifier.PUBLIC)) return false;
+		}
+		return true;
+	}
+
+	private PackageElement getPackage(Element element) {
+		return processingEnv.getElementUtils().getPackageOf(element);
+	}
+
+	private void note(TypeElement listener, String reason) {
+		processingEnv.getMessager().printMessage(Kind.NOTE, "No GameEventDispatcher was generated for " + listener.getQualifiedName() + " since " + reason + ", so it will be scanned at runtime", listener);
+	}
+
+}
@@ -0,0 +1,207 @@
+package game.library.server;
+
+import java.util.Objects;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import game.LibraryConstants;
+import game.library.tick.FixedStepClock;
+
+/**
+ * This class is the {@code ApplicationListener} for a headless dedicated
+ * server. It drives the simulation of the library, being the {@code World},
+ * the {@code TickPool} and the {@code ProjectilePool}, with a fixed timestep
+ * and without any rendering. Events are called through the
+ * {@code GameEventManager} by the simulation itself, and events posted from
+ * other threads are called once the simulation has been stepped.
+ *
+ * <p>
+ * The rate the simulation has achieved and the amount of updates which have
+ * taken longer than a single step are measured and logged every report
+ * interval.
+ *
+ * @author Albert Beaupre
+ * @see game.GameApplicationListener
+ */
+public class ServerApplicationListener implements ApplicationListener {
+
+	private final FixedStepClock clock;
+	private World world;
+
+	private float reportInterval = 10; // the seconds between every statistics report, 0 for no reports
+	private long windowStart; // the nano time the current report window started at
+	private long windowSteps; // the amount of steps taken within the current report window
+	private float achievedRate; // the steps every second achieved within the last report window
+	private long overrunCount; // the amount of updates which took longer than a single step
+	private long maximumOverrun; // the nanoseconds of the longest update past the length of a single step
+
+	/**
+	 * Constructs a new {@code ServerApplicationListener} stepping the simulation
+	 * the given amount of times every second.
+	 *
+	 * @param stepRate the amount of steps every second
+	 */
+	public ServerApplicationListener(int stepRate) {
+		this.clock = new FixedStepClock(stepRate, 5);
+	}
+
+	/**
+	 * Called when the {@link Application} is first created.
+	 */
+	public void create() {
+		/**
+		 * Load only the constant variables used by the simulation, since there is no
+		 * rendering context to load anything else with
+		 */
+		LibraryConstants.loadSimulation(Application.LOG_INFO);
+
+		this.world = new World(new Vector2(0, 0), false);
+		this.windowStart = System.nanoTime();
+		Gdx.app.log("Server", String.format("Started simulating at %.2f steps every second.", this.clock.getStepRate()));
+	}
+
+	/**
+	 * Called when the {@link Application} is resized. A headless server is never
+	 * resized.
+	 */
+	public void resize(int width, int height) {}
+
+	/**
+	 * Called when the {@link Application} should update. This steps the simulation
+	 * once for every step accumulated by the clock.
+	 */
+	public void render() {
+		final long updateStart = System.nanoTime();
+		final int steps = this.clock.accumulate(Gdx.graphics.getDeltaTime());
+		final float stepTime = this.clock.getStepTime();
+
+		for (int step = 0; step < steps; step++) {
+			this.update(stepTime);
+			this.world.step(stepTime, 1, 1);
+
+			LibraryConstants.getTickPool().update(stepTime);
+			LibraryConstants.getProjectilePool().update(stepTime);
+		}
+		LibraryConstants.getEventManager().update();
+
+		/**
+		 * Measure whether this update took longer than a single step
+		 */
+		final long now = System.nanoTime();
+		final long overrun = (now - updateStart) - (long) (stepTime * 1_000_000_000L);
+		if (overrun > 0) {
+			this.overrunCount++;
+			if (overrun > this.maximumOverrun) this.maximumOverrun = overrun;
+		}
+
+		this.windowSteps += steps;
+		final float windowTime = (now - this.windowStart) / 1_000_000_000f;
+		if (this.reportInterval > 0 && windowTime >= this.reportInterval) {
+			this.achievedRate = this.windowSteps / windowTime;
+			this.windowStart = now;
+			this.windowSteps = 0;
+			this.report();
+		}
+	}
+
+	/**
+	 * Updates the game logic of the server. This method is called once for every
+	 * step before the world and pools are updated, and does nothing unless
+	 * overridden.
+	 *
+	 * @param delta the time of a single step
+	 */
+	protected void update(float delta) {}
+
+	/**
+	 * Logs the statistics of the simulation.
+	 */
+	protected void report() {
+		Gdx.app.log("Server", String.format("Achieved %.2f of %.2f steps every second, %d overruns (longest %.3fms), %d dropped steps.", this.achievedRate, this.clock.getStepRate(), this.overrunCount, this.maximumOverrun / 1e6, this.clock.getDroppedSteps()));
+	}
+
+	/**
+	 * Called when the {@link Application} is paused. A headless server is never
+	 * paused.
+	 */
+	public void pause() {}
+
+	/**
+	 * Called when the {@link Application} is resumed from a paused state.
+	 */
+	public void resume() {
+		this.clock.clear();
+	}
+
+	/**
+	 * Called when the {@link Application} is destroyed.
+	 */
+	public void dispose() {
+		if (Objects.nonNull(this.world)) {
+			this.world.dispose();
+		}
+		LibraryConstants.getTickPool().dispose();
+	}
+
+	/**
+	 * Sets the amount of seconds between every statistics report. An interval of 0
+	 * or less stops the reports, and the achieved rate is then no longer measured.
+	 *
+	 * @param reportInterval the seconds between every report
+	 */
+	public void setReportInterval(float reportInterval) {
+		this.reportInterval = reportInterval;
+	}
+
+	/**
+	 * Returns the amount of steps every second the simulation achieved within the
+	 * last report interval.
+	 *
+	 * @return the achieved step rate
+	 */
+	public float getAchievedRate() {
+		return achievedRate;
+	}
+
+	/**
+	 * Returns the amount of updates which took longer than a single step.
+	 *
+	 * @return the amount of overruns
+	 */
+	public long getOverrunCount() {
+		return overrunCount;
+	}
+
+	/**
+	 * Returns the amount of nanoseconds the longest update took past the length of
+	 * a single step.
+	 *
+	 * @return the longest overrun
+	 */
+	public long getMaximumOverrun() {
+		return maximumOverrun;
+	}
+
+	/**
+	 * Returns the clock stepping the simulation of this server.
+	 *
+	 * @return the fixed step clock
+	 */
+	public FixedStepClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Returns the world simulated by this server.
+	 *
+	 * @return the world
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+}
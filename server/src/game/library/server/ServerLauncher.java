@@ -0,0 +1,32 @@
+package game.library.server;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Main class initializer for a headless dedicated server. The server runs the
+ * simulation of the library without any window or rendering context.
+ * 
+ * <p>
+ * The first argument, if given, is the amount of simulation steps every second.
+ * 
+ * @author Albert Beaupre
+ */
+public class ServerLauncher {
+
+	/**
+	 * The amount of simulation steps every second when no rate is given.
+	 */
+	private static final int DEFAULT_STEP_RATE = 60;
+
+	/**
+	 * Initializes the headless server application
+	 */
+	public static void main(String[] arg) {
+		final int stepRate = arg.length > 0 ? Integer.parseInt(arg[0]) : DEFAULT_STEP_RATE;
+
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.updatesPerSecond = stepRate; // the headless backend sleeps between updates to keep this rate
+		new HeadlessApplication(new ServerApplicationListener(stepRate), config);
+	}
+}